@@ -0,0 +1,81 @@
+#!/usr/bin/env bash
+# Measures time-to-first-request and resident memory of EmployeeTrackerApplication in several startup modes.
+#
+# Needs a migrated PostgreSQL database (the same SPRING_DATASOURCE_* variables the app reads) and a JDK 17+.
+#
+#   scripts/startup-benchmark.sh [runs-per-mode]
+#
+# Modes: default profile, faststart profile, faststart + CDS archive, faststart + AOT + CDS archive.
+# Time-to-first-request is measured from the JVM launch until the first answer to $PROBE_PATH,
+# RSS is read from /proc right after that answer (Linux only).
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${PORT:-18080}"
+PROBE_PATH="${PROBE_PATH:-/api/team/multi?ids=1&fields=id}"
+WORK_DIR="target/startup-benchmark"
+
+cd "$(dirname "$0")/.."
+
+build() {
+    local name="$1"
+    shift
+    sh ./mvnw -q -DskipTests "$@" package
+    rm -rf "$WORK_DIR/$name"
+    java -Djarmode=tools -jar target/demo-0.0.1-SNAPSHOT.jar extract --destination "$WORK_DIR/$name"
+}
+
+# a training run that exits right after the context refresh and dumps the loaded classes
+train_cds() {
+    local dir="$1"
+    shift
+    java -XX:ArchiveClassesAtExit="$dir/application.jsa" -Dspring.context.exit=onRefresh \
+        "$@" -jar "$dir/demo-0.0.1-SNAPSHOT.jar" > /dev/null
+}
+
+now_ms() {
+    date +%s%3N
+}
+
+measure() {
+    local label="$1"
+    local dir="$2"
+    shift 2
+    local total_ms=0 total_rss=0
+    for ((run = 1; run <= RUNS; run++)); do
+        local start pid status
+        start=$(now_ms)
+        java "$@" -Dserver.port="$PORT" -jar "$dir/demo-0.0.1-SNAPSHOT.jar" > "$WORK_DIR/$label-$run.log" 2>&1 &
+        pid=$!
+        until status=$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT$PROBE_PATH") && [ "$status" != "000" ]; do
+            if ! kill -0 "$pid" 2> /dev/null; then
+                echo "$label: application exited, see $WORK_DIR/$label-$run.log" >&2
+                exit 1
+            fi
+            sleep 0.05
+        done
+        local elapsed rss
+        elapsed=$(($(now_ms) - start))
+        rss=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+        kill "$pid"
+        wait "$pid" 2> /dev/null || true
+        total_ms=$((total_ms + elapsed))
+        total_rss=$((total_rss + rss))
+    done
+    printf '%-24s %8d ms %8d MB\n' "$label" $((total_ms / RUNS)) $((total_rss / RUNS / 1024))
+}
+
+mkdir -p "$WORK_DIR"
+
+build jit
+train_cds "$WORK_DIR/jit" -Dspring.profiles.active=faststart
+build aot -Paot
+train_cds "$WORK_DIR/aot" -Dspring.profiles.active=faststart -Dspring.aot.enabled=true
+
+printf '%-24s %11s %11s\n' "mode (avg of $RUNS)" "first req" "rss"
+measure default "$WORK_DIR/jit"
+measure faststart "$WORK_DIR/jit" -Dspring.profiles.active=faststart
+measure faststart-cds "$WORK_DIR/jit" -XX:SharedArchiveFile="$WORK_DIR/jit/application.jsa" \
+    -Dspring.profiles.active=faststart
+measure faststart-aot-cds "$WORK_DIR/aot" -XX:SharedArchiveFile="$WORK_DIR/aot/application.jsa" \
+    -Dspring.profiles.active=faststart -Dspring.aot.enabled=true
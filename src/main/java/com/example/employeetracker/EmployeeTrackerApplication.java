@@ -1,9 +1,18 @@
 package com.example.employeetracker;
 
+import com.example.employeetracker.config.EmployeeTrackerRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+// the R2DBC read path builds its own pool, an auto-configured ConnectionFactory bean would turn the JDBC DataSource off
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
+@ConfigurationPropertiesScan
+@EnableScheduling
+@ImportRuntimeHints(EmployeeTrackerRuntimeHints.class)
 public class EmployeeTrackerApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,10 @@
+package com.example.employeetracker.client;
+
+/**
+ * A caller that proved who it is with one of the configured API keys
+ *
+ * @param name   The client's name from {@link ApiClientProperties#getClients()}
+ * @param tenant The only tenant the client may work on, {@code null} if none is configured
+ */
+public record ApiClient(String name, String tenant) {
+}
@@ -0,0 +1,35 @@
+package com.example.employeetracker.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee-tracker.api")
+public class ApiClientProperties {
+
+    /**
+     * Header carrying the client's API key
+     */
+    private String keyHeader = "X-Api-Key";
+
+    /**
+     * Known clients by name. A request is attributed to a client only when it sends that client's key
+     */
+    private Map<String, Client> clients = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Client {
+        private String key;
+
+        /**
+         * The tenant whose data the client works on, required while multi-tenancy is enabled
+         */
+        private String tenant;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.employeetracker.client;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Resolves the API key of a request to one of the configured clients.
+ * <p>
+ * An unknown key identifies nobody: treating any header value as a client would let a caller pick a fresh
+ * identity, and with it fresh rate-limit budgets, on every request.
+ */
+@Component
+public class ApiClients {
+
+    private final String keyHeader;
+    private final Map<String, ApiClient> byKey = new HashMap<>();
+
+    public ApiClients(ApiClientProperties properties) {
+        this.keyHeader = properties.getKeyHeader();
+        properties.getClients().forEach((name, client) -> {
+            if (client.getKey() == null || client.getKey().isBlank()) {
+                throw new IllegalStateException("API client " + name + " has no key");
+            }
+            if (byKey.putIfAbsent(client.getKey(), new ApiClient(name, client.getTenant())) != null) {
+                throw new IllegalStateException("API client " + name + " shares its key with another client");
+            }
+        });
+    }
+
+    /**
+     * @return The client whose key the request carries, empty if it carries none or an unknown one
+     */
+    public Optional<ApiClient> authenticate(HttpServletRequest request) {
+        String key = request.getHeader(keyHeader);
+        return key == null ? Optional.empty() : Optional.ofNullable(byKey.get(key));
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.employeetracker.concurrency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Re-runs a whole transaction when it loses an optimistic locking race.
+ * <p>
+ * Has to wrap the outermost transaction: a conflict is only certain to surface at its commit, and the next attempt
+ * needs a brand-new one, with a fresh persistence context. Attempts are spaced by a short randomised backoff so
+ * competing writers do not collide again.
+ */
+@Slf4j
+public final class ConflictRetry {
+
+    private static final long BASE_BACKOFF_MILLIS = 10;
+
+    private ConflictRetry() {
+    }
+
+    /**
+     * @param operation   Names the retried work in the log
+     * @param maxAttempts Attempts in total, including the first one
+     * @param attempt     Starts and completes a transaction of its own
+     * @return The result of the first attempt that did not conflict
+     * @throws OptimisticLockingFailureException If the last attempt conflicted too, or the backoff was interrupted
+     */
+    public static <T, X extends Throwable> T run(String operation, int maxAttempts, Attempt<T, X> attempt) throws X {
+        int attempts = 1;
+        while (true) {
+            try {
+                return attempt.run();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempts >= maxAttempts) {
+                    throw e;
+                }
+                log.debug("Optimistic lock conflict in {}, attempt {} of {}", operation, attempts, maxAttempts);
+                backoff(attempts++, e);
+            }
+        }
+    }
+
+    private static void backoff(int attempt, OptimisticLockingFailureException conflict) {
+        long ceiling = BASE_BACKOFF_MILLIS << Math.min(attempt, 6);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(BASE_BACKOFF_MILLIS, ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+
+    @FunctionalInterface
+    public interface Attempt<T, X extends Throwable> {
+        T run() throws X;
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.employeetracker.concurrency;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Merges concurrent writes of the same group into one batch.
+ * <p>
+ * The first caller of a group opens a batch and becomes its leader: it waits up to {@code maxWait} for others to
+ * join (or until the batch is full), closes the batch and runs it on its own thread. The callers that joined wait
+ * for their own element of the result. If the batch fails as a whole, the leader runs every item on its own,
+ * so each caller still gets exactly the result or the exception a direct call would have given it.
+ * <p>
+ * Publishes {@code groupcommit.items}, {@code groupcommit.batches}, {@code groupcommit.fallbacks} and
+ * {@code groupcommit.batch.size}, tagged with the name.
+ */
+public class GroupCommit<K, T, R> {
+
+    private final ConcurrentHashMap<K, Batch<T, R>> open = new ConcurrentHashMap<>();
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final Function<List<T>, List<R>> batchWrite;
+    private final Function<T, R> singleWrite;
+    private final LongAdder items = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    private final DistributionSummary batchSize;
+
+    /**
+     * @param batchWrite  Writes all items at once, returns one result per item in the same order
+     * @param singleWrite Writes one item, used for a batch of one and when a batch fails
+     */
+    public GroupCommit(String name, int maxBatchSize, Duration maxWait,
+                       Function<List<T>, List<R>> batchWrite, Function<T, R> singleWrite,
+                       MeterRegistry meterRegistry) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1");
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.batchWrite = batchWrite;
+        this.singleWrite = singleWrite;
+        FunctionCounter.builder("groupcommit.items", items, LongAdder::sum)
+                .tag("name", name)
+                .description("Items submitted for a group commit")
+                .register(meterRegistry);
+        FunctionCounter.builder("groupcommit.batches", batches, LongAdder::sum)
+                .tag("name", name)
+                .description("Batches run, a batch of one included")
+                .register(meterRegistry);
+        FunctionCounter.builder("groupcommit.fallbacks", fallbacks, LongAdder::sum)
+                .tag("name", name)
+                .description("Batches that failed and were retried item by item")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("groupcommit.batch.size")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Writes the item together with whatever else is submitted for the same group meanwhile
+     *
+     * @param group Only items of the same group are written together
+     * @param item  The item to write
+     * @return This item's result
+     */
+    public R submit(K group, T item) {
+        items.increment();
+        CompletableFuture<R> result = new CompletableFuture<>();
+        boolean[] leader = new boolean[1];
+        Batch<T, R> batch = open.compute(group, (key, current) -> {
+            Batch<T, R> joined = current;
+            if (joined == null || joined.items.size() >= maxBatchSize) {
+                joined = new Batch<>();
+                leader[0] = true;
+            }
+            joined.items.add(item);
+            joined.results.add(result);
+            if (joined.items.size() >= maxBatchSize) {
+                joined.full.countDown();
+            }
+            return joined;
+        });
+        if (leader[0]) {
+            lead(group, batch);
+        }
+        return await(result);
+    }
+
+    private void lead(K group, Batch<T, R> batch) {
+        try {
+            batch.full.await(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // nobody joins once the batch is removed or full, and removing it under the map's lock publishes all items
+        open.remove(group, batch);
+        try {
+            run(batch);
+        } catch (Error e) {
+            batch.results.forEach(result -> result.completeExceptionally(e));
+            throw e;
+        }
+    }
+
+    private void run(Batch<T, R> batch) {
+        batches.increment();
+        batchSize.record(batch.items.size());
+        if (batch.items.size() > 1) {
+            try {
+                List<R> written = batchWrite.apply(batch.items);
+                if (written.size() != batch.items.size()) {
+                    throw new IllegalStateException("Batch of " + batch.items.size() + " returned " + written.size());
+                }
+                for (int i = 0; i < written.size(); i++) {
+                    batch.results.get(i).complete(written.get(i));
+                }
+                return;
+            } catch (RuntimeException e) {
+                fallbacks.increment();
+            }
+        }
+        for (int i = 0; i < batch.items.size(); i++) {
+            try {
+                batch.results.get(i).complete(singleWrite.apply(batch.items.get(i)));
+            } catch (RuntimeException e) {
+                batch.results.get(i).completeExceptionally(e);
+            }
+        }
+    }
+
+    private static <R> R await(CompletableFuture<R> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a group commit", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new CompletionException(cause);
+        }
+    }
+
+    private static final class Batch<T, R> {
+        private final List<T> items = new ArrayList<>();
+        private final List<CompletableFuture<R>> results = new ArrayList<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.employeetracker.concurrency;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Implements {@link RetryOnConflict} with {@link ConflictRetry}.
+ * <p>
+ * Ordered just ahead of the transaction advice (which uses the lowest precedence), so it sits outside it: a conflict is
+ * only detected when the transaction commits, and the next attempt needs a brand-new one.
+ * A call that joins a transaction someone else opened is not retried here: its persistence context is stale and the
+ * transaction already marked rollback-only, so whoever opened the transaction has to retry it.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class OptimisticLockRetryAspect {
+
+    @Around("@annotation(retryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnConflict retryOnConflict) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        return ConflictRetry.run(joinPoint.getSignature().toShortString(), retryOnConflict.maxAttempts(),
+                joinPoint::proceed);
+    }
+}
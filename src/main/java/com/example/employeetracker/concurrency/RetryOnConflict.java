@@ -0,0 +1,24 @@
+package com.example.employeetracker.concurrency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Re-runs the annotated (transactional) method when it loses an optimistic locking race.
+ * <p>
+ * The retry wraps the transaction, so every attempt starts from a fresh read of the rows. Called inside a transaction
+ * that is already open the method is not retried; wrap that transaction in {@link ConflictRetry} instead.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+
+    int DEFAULT_MAX_ATTEMPTS = 8;
+
+    /**
+     * Attempts in total, including the first one
+     */
+    int maxAttempts() default DEFAULT_MAX_ATTEMPTS;
+}
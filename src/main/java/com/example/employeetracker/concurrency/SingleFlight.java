@@ -0,0 +1,94 @@
+package com.example.employeetracker.concurrency;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into one.
+ * <p>
+ * The first caller for a key runs the loader; everyone who asks for the same key while it is
+ * still running waits for that result instead of starting their own load. As soon as the load
+ * finishes the key is forgotten, so this never serves stale data - it is not a cache.
+ * Results are handed to several threads at once and therefore must be immutable.
+ * <p>
+ * Publishes {@code singleflight.calls}, {@code singleflight.shared} and
+ * {@code singleflight.coalescing.ratio} (shared / calls), tagged with the flight name.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        FunctionCounter.builder("singleflight.calls", calls, LongAdder::sum)
+                .tag("name", name)
+                .description("Calls that went through the single-flight layer")
+                .register(meterRegistry);
+        FunctionCounter.builder("singleflight.shared", shared, LongAdder::sum)
+                .tag("name", name)
+                .description("Calls answered by another caller's in-flight load")
+                .register(meterRegistry);
+        Gauge.builder("singleflight.coalescing.ratio", this, SingleFlight::coalescingRatio)
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the result of the in-flight load for the key, or runs the loader if there is none
+     *
+     * @param key    Identifies identical requests
+     * @param loader Loads the value; runs at most once concurrently per key
+     * @return The loaded value, possibly shared with other callers
+     */
+    public V execute(K key, Supplier<V> loader) {
+        calls.increment();
+        CompletableFuture<V> ours = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, ours);
+        if (running != null) {
+            shared.increment();
+            return await(running);
+        }
+        try {
+            V value = loader.get();
+            ours.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            ours.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, ours);
+        }
+    }
+
+    public double coalescingRatio() {
+        long total = calls.sum();
+        return total == 0 ? 0 : (double) shared.sum() / total;
+    }
+
+    private static <V> V await(CompletableFuture<V> running) {
+        try {
+            return running.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a shared load", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new CompletionException(cause);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.employeetracker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee-tracker.batch")
+public class EmployeeBatchProperties {
+
+    /**
+     * Personal IDs checked per query before a batch is inserted. All of a chunk are bound as one array parameter,
+     * so this only bounds the size of a single statement
+     */
+    private int probeChunkSize = 5000;
+}
@@ -0,0 +1,21 @@
+package com.example.employeetracker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee-tracker.import")
+public class EmployeeImportProperties {
+
+    /**
+     * Rows written (and committed) together, bounds what an import keeps in memory
+     */
+    private int batchSize = 1000;
+
+    /**
+     * Rejected rows listed in the import report, the rest are only counted
+     */
+    private int maxReportedErrors = 100;
+}
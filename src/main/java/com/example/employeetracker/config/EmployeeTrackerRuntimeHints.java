@@ -0,0 +1,66 @@
+package com.example.employeetracker.config;
+
+import com.example.employeetracker.domain.Employee;
+import com.example.employeetracker.domain.IdempotencyRecord;
+import com.example.employeetracker.domain.MembershipHistory;
+import com.example.employeetracker.domain.Team;
+import com.example.employeetracker.exception.ErrorResponse;
+import com.example.employeetracker.history.PeriodFunctionContributor;
+import com.example.employeetracker.request.EmployeeFields;
+import com.example.employeetracker.request.EmployeeRequest;
+import com.example.employeetracker.request.EmployeeUpdateRequest;
+import com.example.employeetracker.request.TeamFields;
+import com.example.employeetracker.request.TeamRequest;
+import com.example.employeetracker.response.CacheRegionStatisticsResponse;
+import com.example.employeetracker.response.EmployeeImportResponse;
+import com.example.employeetracker.response.EmployeeResponse;
+import com.example.employeetracker.response.ImportRowErrorResponse;
+import com.example.employeetracker.response.MultiGetResponse;
+import com.example.employeetracker.response.RosterRowResponse;
+import com.example.employeetracker.response.TeamResponse;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+
+import java.util.stream.Stream;
+
+/**
+ * Reflection and resource hints for the native image (see the {@code native} Maven profile).
+ * <p>
+ * Spring's AOT processing already covers controller signatures, configuration properties and the
+ * managed JPA types; this adds what it can't see:
+ * <ul>
+ *   <li>entity fields, which Hibernate and the specifications' {@code root.get("...")} reach by name</li>
+ *   <li>records that are only serialised indirectly: streamed list elements, idempotency replays and error bodies</li>
+ *   <li>the Ehcache configuration file</li>
+ *   <li>the HQL functions Hibernate loads through {@code ServiceLoader}</li>
+ * </ul>
+ * The specification lambdas themselves need no hints, they are never serialised or looked up reflectively.
+ */
+public class EmployeeTrackerRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final Class<?>[] ENTITIES = {Employee.class, Team.class, IdempotencyRecord.class, MembershipHistory.class};
+
+    static final Class<?>[] JSON_TYPES = {
+            EmployeeRequest.class, EmployeeUpdateRequest.class, TeamRequest.class,
+            EmployeeFields.class, TeamFields.class,
+            EmployeeResponse.class, TeamResponse.class, MultiGetResponse.class, RosterRowResponse.class,
+            EmployeeImportResponse.class, ImportRowErrorResponse.class, CacheRegionStatisticsResponse.class,
+            ErrorResponse.class
+    };
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        Stream.of(ENTITIES).forEach(entity -> hints.reflection().registerType(entity,
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS));
+        bindingRegistrar.registerReflectionHints(hints.reflection(), JSON_TYPES);
+        hints.resources().registerPattern("ehcache.xml");
+        hints.resources().registerPattern("META-INF/services/org.hibernate.boot.model.FunctionContributor");
+        hints.reflection().registerType(PeriodFunctionContributor.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.employeetracker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee-tracker.graphql")
+public class GraphQlProperties {
+
+    /**
+     * Deepest selection a query may nest, e.g. {@code team { members(first: 10) { team { lead } } } } has depth 4
+     */
+    private int maxDepth = 6;
+
+    /**
+     * Most fields a query may select in total, every selected field counts one
+     */
+    private int maxComplexity = 200;
+
+    /**
+     * Largest {@code first} the root {@code teams} and {@code employees} lists accept
+     */
+    private int maxFirst = 500;
+
+    /**
+     * Largest {@code first} a team's {@code members} list accepts. Together with {@link #maxFirst} it bounds how many
+     * members one query can return
+     */
+    private int maxMembers = 50;
+}
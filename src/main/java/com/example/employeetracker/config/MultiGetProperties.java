@@ -0,0 +1,21 @@
+package com.example.employeetracker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee-tracker.multi-get")
+public class MultiGetProperties {
+
+    /**
+     * Most ids a single multi-get request may ask for
+     */
+    private int maxIds = 500;
+
+    /**
+     * Ids bound per {@code in}/{@code any} query, keeps every statement well below Postgres' bind parameter limit
+     */
+    private int chunkSize = 500;
+}
@@ -0,0 +1,39 @@
+package com.example.employeetracker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee-tracker.reactive")
+public class ReactiveReadProperties {
+
+    /**
+     * Serves the {@code /api/reactive/**} read endpoints over R2DBC
+     */
+    private boolean enabled = false;
+
+    /**
+     * R2DBC url of the same database the JPA side uses, e.g. {@code r2dbc:postgresql://localhost:5432/employee-tracker}
+     */
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    /**
+     * Connections of the R2DBC pool, separate from (and in addition to) the JDBC pool
+     */
+    private int maxPoolSize = 20;
+
+    private Duration maxAcquireTime = Duration.ofSeconds(5);
+
+    /**
+     * Rows requested from the database at a time, so a slow client slows the query down instead of filling the heap
+     */
+    private int fetchSize = 500;
+}
@@ -0,0 +1,23 @@
+package com.example.employeetracker.config;
+
+import com.example.employeetracker.ratelimit.RateLimitInterceptor;
+import com.example.employeetracker.tenant.TenantInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final TenantInterceptor tenantInterceptor;
+    private final RateLimitInterceptor rateLimitInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // the tenant has to be bound before rate limits, which are kept per tenant
+        registry.addInterceptor(tenantInterceptor).addPathPatterns("/api/**", "/graphql");
+        registry.addInterceptor(rateLimitInterceptor).addPathPatterns("/api/**", "/graphql");
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.employeetracker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee-tracker.write-coalescing")
+public class WriteCoalescingProperties {
+
+    /**
+     * Merges concurrent {@code POST /api/employee} calls of a tenant into one transaction
+     */
+    private boolean enabled = false;
+
+    /**
+     * How long the first call of a batch waits for others, the latency every coalesced call may pay on top
+     */
+    private Duration maxWait = Duration.ofMillis(2);
+
+    /**
+     * A full batch is written without waiting any longer
+     */
+    private int maxBatchSize = 64;
+}
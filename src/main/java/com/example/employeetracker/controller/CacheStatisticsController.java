@@ -0,0 +1,50 @@
+package com.example.employeetracker.controller;
+
+import com.example.employeetracker.response.CacheRegionStatisticsResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Exposes hit/miss/put counts for every Hibernate second-level cache region,
+ * only when {@code employee-tracker.cache.statistics-enabled} turns Hibernate statistics on
+ */
+@RestController
+@ConditionalOnProperty(prefix = "employee-tracker.cache", name = "statistics-enabled", havingValue = "true")
+@RequestMapping("/api/admin/cache")
+public class CacheStatisticsController {
+    private final Statistics statistics;
+
+    public CacheStatisticsController(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @GetMapping
+    public List<CacheRegionStatisticsResponse> getRegionStatistics() {
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> toResponse(region, statistics.getDomainDataRegionStatistics(region)))
+                .toList();
+    }
+
+    private static CacheRegionStatisticsResponse toResponse(String region, CacheRegionStatistics regionStatistics) {
+        long hits = regionStatistics.getHitCount();
+        long misses = regionStatistics.getMissCount();
+        return CacheRegionStatisticsResponse.builder()
+                .region(region)
+                .hitCount(hits)
+                .missCount(misses)
+                .putCount(regionStatistics.getPutCount())
+                .hitRatio(hits + misses == 0 ? 0 : (double) hits / (hits + misses))
+                .elementCountInMemory(regionStatistics.getElementCountInMemory())
+                .build();
+    }
+}
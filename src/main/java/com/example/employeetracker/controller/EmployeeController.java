@@ -1,14 +1,32 @@
 package com.example.employeetracker.controller;
 
-import com.example.employeetracker.domain.Employee;
+import com.example.employeetracker.idempotency.IdempotencyService;
+import com.example.employeetracker.ratelimit.EndpointClass;
+import com.example.employeetracker.ratelimit.RateLimited;
+import com.example.employeetracker.request.EmployeeFields;
 import com.example.employeetracker.request.EmployeeRequest;
 import com.example.employeetracker.request.EmployeeUpdateRequest;
+import com.example.employeetracker.response.EmployeeImportResponse;
 import com.example.employeetracker.response.EmployeeResponse;
+import com.example.employeetracker.response.MembershipResponse;
+import com.example.employeetracker.response.MultiGetResponse;
+import com.example.employeetracker.service.CoalescingReadService;
+import com.example.employeetracker.service.CoalescingWriteService;
+import com.example.employeetracker.serviceinterface.EmployeeImportService;
 import com.example.employeetracker.serviceinterface.EmployeeService;
+import com.example.employeetracker.serviceinterface.MembershipHistoryService;
+import com.example.employeetracker.streaming.JsonArrayStreamer;
+import com.fasterxml.jackson.core.type.TypeReference;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
 
 @RestController
@@ -16,25 +34,56 @@ import java.util.List;
 @RequiredArgsConstructor
 public class EmployeeController {
     private final EmployeeService employeeService;
+    private final CoalescingReadService coalescingReadService;
+    private final CoalescingWriteService coalescingWriteService;
+    private final JsonArrayStreamer jsonArrayStreamer;
+    private final IdempotencyService idempotencyService;
+    private final EmployeeImportService employeeImportService;
+    private final MembershipHistoryService membershipHistoryService;
 
     @PostMapping
-    public EmployeeResponse addEmployee(@Valid @RequestBody EmployeeRequest employeeRequest) {
-        return employeeService.addEmployee(employeeRequest);
+    public EmployeeResponse addEmployee(@Valid @RequestBody EmployeeRequest employeeRequest,
+                                        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return coalescingWriteService.addEmployee(employeeRequest);
+        }
+        // the create has to join the transaction that claims the key, a coalesced batch runs in its own
+        return idempotencyService.execute("POST /api/employee", idempotencyKey, employeeRequest,
+                new TypeReference<>() {},
+                () -> employeeService.addEmployee(employeeRequest));
     }
 
     @PostMapping("/batch")
-    public List<EmployeeResponse> addEmployees(@Valid @RequestBody List<EmployeeRequest> employeeRequest) {
-        return employeeService.addEmployees(employeeRequest);
+    @RateLimited(EndpointClass.BATCH)
+    public List<EmployeeResponse> addEmployees(@Valid @RequestBody List<EmployeeRequest> employeeRequest,
+                                               @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        return idempotencyService.execute("POST /api/employee/batch", idempotencyKey, employeeRequest,
+                new TypeReference<>() {},
+                () -> employeeService.addEmployees(employeeRequest));
+    }
+
+    @PostMapping(value = "/import", consumes = {"text/csv", "text/plain"})
+    @RateLimited(EndpointClass.BATCH)
+    public EmployeeImportResponse importEmployees(InputStream body) {
+        return employeeImportService.importEmployees(new InputStreamReader(body, StandardCharsets.UTF_8));
     }
 
     @GetMapping
-    public List<EmployeeResponse> getAllEmployees() {
-        return employeeService.getAllEmployees();
+    @RateLimited(EndpointClass.SCAN)
+    public ResponseEntity<StreamingResponseBody> getAllEmployees(@RequestParam(required = false) String fields) {
+        EmployeeFields selected = EmployeeFields.parse(fields);
+        return jsonArrayStreamer.<EmployeeResponse>stream(consumer -> employeeService.streamAllEmployees(selected, consumer));
+    }
+
+    @GetMapping("/multi")
+    public List<MultiGetResponse<EmployeeResponse>> getEmployeesByIds(@RequestParam List<Long> ids,
+                                                                     @RequestParam(required = false) String fields) {
+        return employeeService.getEmployeesByIds(ids, EmployeeFields.parse(fields));
     }
 
     @GetMapping("/{id}")
-    public EmployeeResponse getEmployeeById(@PathVariable Long id) {
-        return employeeService.getEmployeeById(id);
+    public EmployeeResponse getEmployeeById(@PathVariable Long id, @RequestParam(required = false) String fields) {
+        return coalescingReadService.getEmployeeById(id, EmployeeFields.parse(fields));
     }
 
     @PutMapping("/{id}")
@@ -47,20 +96,20 @@ public class EmployeeController {
         employeeService.deleteEmployee(id);
     }
 
+    @GetMapping("/{id}/history")
+    public List<MembershipResponse> getEmployeeTimeline(@PathVariable Long id,
+                                                        @RequestParam(required = false) Instant from,
+                                                        @RequestParam(required = false) Instant to) {
+        return membershipHistoryService.getEmployeeTimeline(id, from, to);
+    }
+
     @GetMapping("/search")
+    @RateLimited(EndpointClass.SCAN)
     public List<EmployeeResponse> searchEmployees(
             @RequestParam(required = false) String personalId,
-            @RequestParam(required = false) String name
-
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String fields
             ) {
-        List<Employee> employees = employeeService.searchEmployees(personalId, name);
-        return employees.stream()
-                .map(e -> new EmployeeResponse(
-                        e.getId(),
-                        e.getPersonalId(),
-                        e.getName(),
-                        (e.getTeam() != null) ? e.getTeam().getId() : null
-                ))
-                .toList();
+        return coalescingReadService.searchEmployees(personalId, name, EmployeeFields.parse(fields));
     }
 }
@@ -0,0 +1,44 @@
+package com.example.employeetracker.controller;
+
+import com.example.employeetracker.mapper.RosterMapper;
+import com.example.employeetracker.ratelimit.EndpointClass;
+import com.example.employeetracker.ratelimit.RateLimited;
+import com.example.employeetracker.response.RosterRowResponse;
+import com.example.employeetracker.serviceinterface.RosterExportService;
+import com.example.employeetracker.streaming.CsvStreamer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.function.Consumer;
+
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+public class ExportController {
+    private final RosterExportService rosterExportService;
+    private final CsvStreamer csvStreamer;
+
+    @GetMapping("/roster.csv")
+    @RateLimited(EndpointClass.SCAN)
+    public ResponseEntity<StreamingResponseBody> exportRosterCsv(@RequestParam(required = false) Long teamId) {
+        return exportRoster(teamId, false);
+    }
+
+    @GetMapping("/roster.csv.gz")
+    @RateLimited(EndpointClass.SCAN)
+    public ResponseEntity<StreamingResponseBody> exportRosterCsvGzip(@RequestParam(required = false) Long teamId) {
+        return exportRoster(teamId, true);
+    }
+
+    private ResponseEntity<StreamingResponseBody> exportRoster(Long teamId, boolean gzip) {
+        // an unknown team fails with 404 here, once streaming has started the status is already sent
+        Consumer<Consumer<RosterRowResponse>> roster = rosterExportService.openRoster(teamId);
+        String fileName = teamId == null ? "roster.csv" : "roster-team-" + teamId + ".csv";
+        return csvStreamer.stream(fileName, gzip, RosterMapper.CSV_HEADER, RosterMapper::toCsvRecord, roster);
+    }
+}
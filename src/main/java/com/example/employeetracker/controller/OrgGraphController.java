@@ -0,0 +1,122 @@
+package com.example.employeetracker.controller;
+
+import com.example.employeetracker.response.EmployeeResponse;
+import com.example.employeetracker.response.TeamNodeResponse;
+import com.example.employeetracker.serviceinterface.OrgGraphService;
+import graphql.GraphQLError;
+import graphql.schema.DataFetchingEnvironment;
+import org.dataloader.DataLoader;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.GraphQlExceptionHandler;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Controller
+public class OrgGraphController {
+    private static final String TEAM_MEMBERS = "teamMembers";
+
+    private final OrgGraphService orgGraphService;
+
+    /**
+     * Members are batched by hand rather than with {@link BatchMapping}, which can't see the {@code first} argument
+     */
+    public OrgGraphController(OrgGraphService orgGraphService, BatchLoaderRegistry batchLoaderRegistry) {
+        this.orgGraphService = orgGraphService;
+        batchLoaderRegistry.<MembersKey, List<EmployeeResponse>>forName(TEAM_MEMBERS)
+                .registerMappedBatchLoader((keys, environment) -> Mono.fromSupplier(() -> loadMembers(keys)));
+    }
+
+    @QueryMapping
+    public TeamNodeResponse team(@Argument Long id) {
+        return orgGraphService.getTeam(id).orElse(null);
+    }
+
+    @QueryMapping
+    public List<TeamNodeResponse> teams(@Argument String name, @Argument Long teamLeadId, @Argument int first) {
+        return orgGraphService.searchTeams(name, teamLeadId, first);
+    }
+
+    @QueryMapping
+    public EmployeeResponse employee(@Argument Long id) {
+        return orgGraphService.getEmployee(id).orElse(null);
+    }
+
+    @QueryMapping
+    public List<EmployeeResponse> employees(@Argument String personalId, @Argument String name, @Argument int first) {
+        return orgGraphService.searchEmployees(personalId, name, first);
+    }
+
+    @BatchMapping(typeName = "Team")
+    public Map<TeamNodeResponse, EmployeeResponse> lead(List<TeamNodeResponse> teams) {
+        Map<Long, EmployeeResponse> leads = orgGraphService.getEmployeesByIds(
+                ids(teams, TeamNodeResponse::teamLeadId));
+        return resolve(teams, team -> leads.get(team.teamLeadId()));
+    }
+
+    @SchemaMapping(typeName = "Team")
+    public CompletableFuture<List<EmployeeResponse>> members(TeamNodeResponse team, @Argument int first,
+                                                             DataFetchingEnvironment environment) {
+        DataLoader<MembersKey, List<EmployeeResponse>> members = environment.getDataLoader(TEAM_MEMBERS);
+        return members.load(new MembersKey(team.id(), first));
+    }
+
+    @BatchMapping(typeName = "Employee")
+    public Map<EmployeeResponse, TeamNodeResponse> team(List<EmployeeResponse> employees) {
+        Map<Long, TeamNodeResponse> teams = orgGraphService.getTeamsByIds(
+                ids(employees, EmployeeResponse::teamId));
+        return resolve(employees, employee -> teams.get(employee.teamId()));
+    }
+
+    @GraphQlExceptionHandler
+    public GraphQLError handleIllegalArgumentException(IllegalArgumentException exception) {
+        return GraphQLError.newError()
+                .errorType(ErrorType.BAD_REQUEST)
+                .message(exception.getMessage())
+                .build();
+    }
+
+    // one query per distinct first, which is the same for every team of a query unless it uses aliases
+    private Map<MembersKey, List<EmployeeResponse>> loadMembers(Set<MembersKey> keys) {
+        Map<MembersKey, List<EmployeeResponse>> loaded = new HashMap<>();
+        keys.stream().collect(Collectors.groupingBy(MembersKey::first)).forEach((first, sameFirst) -> {
+            Map<Long, List<EmployeeResponse>> members = orgGraphService.getMembersByTeamIds(
+                    ids(sameFirst, MembersKey::teamId), first);
+            sameFirst.forEach(key -> loaded.put(key, members.getOrDefault(key.teamId(), List.of())));
+        });
+        return loaded;
+    }
+
+    private static <T> List<Long> ids(List<T> sources, Function<T, Long> getId) {
+        return sources.stream().map(getId).filter(Objects::nonNull).distinct().toList();
+    }
+
+    // keys without a value resolve to null, which GraphQL renders as a missing lead or team
+    private static <S, V> Map<S, V> resolve(List<S> sources, Function<S, V> lookup) {
+        Map<S, V> resolved = new LinkedHashMap<>();
+        for (S source : sources) {
+            V value = lookup.apply(source);
+            if (value != null) {
+                resolved.put(source, value);
+            }
+        }
+        return resolved;
+    }
+
+    private record MembersKey(Long teamId, int first) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.employeetracker.controller;
+
+import com.example.employeetracker.ratelimit.EndpointClass;
+import com.example.employeetracker.ratelimit.RateLimited;
+import com.example.employeetracker.request.EmployeeFields;
+import com.example.employeetracker.request.TeamFields;
+import com.example.employeetracker.response.EmployeeResponse;
+import com.example.employeetracker.response.TeamResponse;
+import com.example.employeetracker.serviceinterface.ReactiveReadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+@RestController
+@RequestMapping(value = "/api/reactive", produces = MediaType.APPLICATION_NDJSON_VALUE)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "employee-tracker.reactive", name = "enabled", havingValue = "true")
+public class ReactiveReadController {
+    private final ReactiveReadService reactiveReadService;
+
+    @GetMapping("/employee")
+    @RateLimited(EndpointClass.SCAN)
+    public Flux<EmployeeResponse> getAllEmployees(@RequestParam(required = false) String fields) {
+        return reactiveReadService.getAllEmployees(EmployeeFields.parse(fields));
+    }
+
+    @GetMapping("/employee/search")
+    @RateLimited(EndpointClass.SCAN)
+    public Flux<EmployeeResponse> searchEmployees(
+            @RequestParam(required = false) String personalId,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String fields) {
+        return reactiveReadService.searchEmployees(personalId, name, EmployeeFields.parse(fields));
+    }
+
+    @GetMapping("/team")
+    @RateLimited(EndpointClass.SCAN)
+    public Flux<TeamResponse> getAllTeams(@RequestParam(required = false) String fields) {
+        return reactiveReadService.getAllTeams(TeamFields.parse(fields));
+    }
+
+    @GetMapping("/team/search")
+    @RateLimited(EndpointClass.SCAN)
+    public Flux<TeamResponse> searchTeams(
+            @RequestParam(required = false) String teamName,
+            @RequestParam(required = false) Long teamLeadId,
+            @RequestParam(required = false) String fields) {
+        return reactiveReadService.searchTeams(teamName, teamLeadId, TeamFields.parse(fields));
+    }
+}
@@ -1,18 +1,27 @@
 package com.example.employeetracker.controller;
 
-import com.example.employeetracker.domain.Employee;
-import com.example.employeetracker.domain.Team;
-import com.example.employeetracker.mapper.EmployeeMapper;
-import com.example.employeetracker.mapper.TeamMapper;
+import com.example.employeetracker.idempotency.IdempotencyService;
+import com.example.employeetracker.ratelimit.EndpointClass;
+import com.example.employeetracker.ratelimit.RateLimited;
 import com.example.employeetracker.request.AddEmployeesRequest;
+import com.example.employeetracker.request.TeamFields;
 import com.example.employeetracker.request.TeamRequest;
 import com.example.employeetracker.response.EmployeeResponse;
+import com.example.employeetracker.response.MembershipResponse;
+import com.example.employeetracker.response.MultiGetResponse;
 import com.example.employeetracker.response.TeamResponse;
+import com.example.employeetracker.service.CoalescingReadService;
+import com.example.employeetracker.serviceinterface.MembershipHistoryService;
 import com.example.employeetracker.serviceinterface.TeamService;
+import com.example.employeetracker.streaming.JsonArrayStreamer;
+import com.fasterxml.jackson.core.type.TypeReference;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Instant;
 import java.util.List;
 
 @RestController
@@ -20,20 +29,35 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TeamController {
     private final TeamService teamService;
+    private final CoalescingReadService coalescingReadService;
+    private final JsonArrayStreamer jsonArrayStreamer;
+    private final IdempotencyService idempotencyService;
+    private final MembershipHistoryService membershipHistoryService;
 
     @PostMapping
-    public TeamResponse createTeam(@Valid @RequestBody TeamRequest request) {
-        return teamService.createTeam(request);
+    public TeamResponse createTeam(@Valid @RequestBody TeamRequest request,
+                                   @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        return idempotencyService.execute("POST /api/team", idempotencyKey, request,
+                new TypeReference<>() {},
+                () -> teamService.createTeam(request));
+    }
+
+    @GetMapping("/multi")
+    public List<MultiGetResponse<TeamResponse>> getTeamsByIds(@RequestParam List<Long> ids,
+                                                             @RequestParam(required = false) String fields) {
+        return teamService.getTeamsByIds(ids, TeamFields.parse(fields));
     }
 
     @GetMapping("/{teamId}")
-    public TeamResponse getTeamById(@PathVariable Long teamId) {
-        return teamService.getTeamById(teamId);
+    public TeamResponse getTeamById(@PathVariable Long teamId, @RequestParam(required = false) String fields) {
+        return coalescingReadService.getTeamById(teamId, TeamFields.parse(fields));
     }
 
     @GetMapping
-    public List<TeamResponse> getAllTeams() {
-        return teamService.getAllTeams();
+    @RateLimited(EndpointClass.SCAN)
+    public ResponseEntity<StreamingResponseBody> getAllTeams(@RequestParam(required = false) String fields) {
+        TeamFields selected = TeamFields.parse(fields);
+        return jsonArrayStreamer.<TeamResponse>stream(consumer -> teamService.streamAllTeams(selected, consumer));
     }
 
     @PutMapping("/{teamId}")
@@ -53,23 +77,20 @@ public class TeamController {
         return teamService.removeEmployeeFromTeam(teamId, employeeId);
     }
 
+    @GetMapping("/{teamId}/history")
+    public List<MembershipResponse> getTeamRosterAsOf(@PathVariable Long teamId,
+                                                      @RequestParam(required = false) Instant at) {
+        return membershipHistoryService.getTeamRosterAsOf(teamId, at);
+    }
+
     @GetMapping("/search")
+    @RateLimited(EndpointClass.SCAN)
     public List<TeamResponse> searchTeams(
             @RequestParam(required = false) String teamName,
-            @RequestParam(required = false) Long teamLeadId
+            @RequestParam(required = false) Long teamLeadId,
+            @RequestParam(required = false) String fields
     ) {
-        List<Team> teams = teamService.searchTeams(teamName, teamLeadId);
-
-        return teams.stream()
-                .map(team -> TeamResponse.builder()
-                        .id(team.getId())
-                        .name(team.getName())
-                        .teamLead(EmployeeMapper.toResponse(team.getTeamLead()))
-                        .employees(TeamMapper.mapToEmployeesList(team.getEmployees()))
-                        .build()
-                )
-                .toList();
-
+        return coalescingReadService.searchTeams(teamName, teamLeadId, TeamFields.parse(fields));
     }
 
 }
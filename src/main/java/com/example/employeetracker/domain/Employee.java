@@ -2,24 +2,42 @@ package com.example.employeetracker.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.TenantId;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "employees")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "employees",
+        // lets teams reference (lead id, team id) pairs, so a lead can only lead their own team
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_employees_id_team", columnNames = {"id", "team_id"}),
+                @UniqueConstraint(name = "uk_employees_tenant_personal_id", columnNames = {"tenant_id", "personal_id"})
+        })
 public class Employee {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "personal_id", nullable = false, unique = true)
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 64)
+    private String tenantId;
+
+    @Column(name = "personal_id", nullable = false)
     private String personalId;
 
     @Column(name = "name", nullable = false)
     private String name;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "team_id")
     private Team team;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
@@ -0,0 +1,9 @@
+package com.example.employeetracker.domain;
+
+/**
+ * Progress of the create behind an {@link IdempotencyRecord}
+ */
+public enum IdempotencyStatus {
+    IN_PROGRESS,
+    COMPLETED
+}
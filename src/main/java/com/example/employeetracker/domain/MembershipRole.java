@@ -0,0 +1,9 @@
+package com.example.employeetracker.domain;
+
+/**
+ * The part an employee plays in a team for one {@link MembershipHistory} interval
+ */
+public enum MembershipRole {
+    MEMBER,
+    LEAD
+}
@@ -5,6 +5,10 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.OptimisticLock;
+import org.hibernate.annotations.TenantId;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,19 +18,33 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "teams")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "teams",
+        uniqueConstraints = @UniqueConstraint(name = "uk_teams_tenant_name", columnNames = {"tenant_id", "name"}))
 public class Team {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "name", nullable = false, unique = true)
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 64)
+    private String tenantId;
+
+    @Column(name = "name", nullable = false)
     private String name;
 
+    // membership is owned and versioned by Employee.team, so adding people to a team never conflicts on the team row
     @OneToMany(mappedBy = "team")
+    @OptimisticLock(excluded = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<Employee> employees = new ArrayList<>();
 
-    @OneToOne
-    @JoinColumn(name = "team_lead_id")
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team_lead_id", unique = true)
     private Employee teamLead;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
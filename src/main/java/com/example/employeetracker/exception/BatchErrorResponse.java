@@ -0,0 +1,20 @@
+package com.example.employeetracker.exception;
+
+import com.example.employeetracker.response.BatchRowErrorResponse;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+public class BatchErrorResponse extends ErrorResponse {
+    private List<BatchRowErrorResponse> rows;
+
+    public BatchErrorResponse(String message, HttpStatus httpStatus, LocalDateTime timeStamp, List<BatchRowErrorResponse> rows) {
+        super(message, httpStatus, timeStamp);
+        this.rows = rows;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.employeetracker.exception;
+
+import com.example.employeetracker.response.BatchRowErrorResponse;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class BatchRejectedException extends RuntimeException {
+
+    private final List<BatchRowErrorResponse> rows;
+
+    public BatchRejectedException(List<BatchRowErrorResponse> rows) {
+        super(String.format("Batch rejected, %d rows can't be inserted", rows.size()));
+        this.rows = rows;
+    }
+}
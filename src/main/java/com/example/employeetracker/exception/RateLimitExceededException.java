@@ -0,0 +1,23 @@
+package com.example.employeetracker.exception;
+
+import com.example.employeetracker.ratelimit.EndpointClass;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.TOO_MANY_REQUESTS)
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(EndpointClass endpointClass, long retryAfterSeconds) {
+        super(String.format("Rate limit for %s requests exceeded, retry in %d s", endpointClass, retryAfterSeconds));
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
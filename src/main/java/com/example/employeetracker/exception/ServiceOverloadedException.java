@@ -0,0 +1,12 @@
+package com.example.employeetracker.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE)
+public class ServiceOverloadedException extends RuntimeException {
+
+    public ServiceOverloadedException(int threadsAwaitingConnection) {
+        super(String.format("Service overloaded, %d requests already waiting for the database", threadsAwaitingConnection));
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.employeetracker.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.FORBIDDEN)
+public class TenantAccessDeniedException extends RuntimeException {
+
+    public TenantAccessDeniedException(String message) {
+        super(message);
+    }
+}
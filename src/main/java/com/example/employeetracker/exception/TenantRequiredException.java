@@ -0,0 +1,12 @@
+package com.example.employeetracker.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.BAD_REQUEST)
+public class TenantRequiredException extends RuntimeException {
+
+    public TenantRequiredException(String header) {
+        super(String.format("Header %s must name the tenant (1-64 letters, digits, '_' or '-')", header));
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.employeetracker.history;
+
+import com.example.employeetracker.domain.Employee;
+import com.example.employeetracker.domain.MembershipRole;
+import com.example.employeetracker.domain.Team;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records every change of {@code Employee.team} and {@code Team.teamLead} in {@code team_membership_history}.
+ * <p>
+ * Listening to Hibernate rather than to the service methods catches every path that changes an assignment,
+ * including ones added later. Changes are collected per session and written in the same transaction,
+ * just before it commits, in the order they happened; consecutive statements of the same kind share a JDBC batch.
+ * A rolled back transaction writes nothing.
+ */
+@Component
+@Lazy(false) // nothing depends on the listener, so lazy initialization would never register it
+public class MembershipHistoryListener
+        implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener, SmartInitializingSingleton {
+
+    private static final String OPEN = """
+            insert into team_membership_history (tenant_id, employee_id, team_id, role, valid_from)
+            values (?, ?, ?, ?, ?)
+            """;
+    private static final String CLOSE_MEMBERSHIP = """
+            update team_membership_history set valid_to = ?
+            where employee_id = ? and role = 'MEMBER' and valid_to is null
+            """;
+    private static final String CLOSE_LEAD = """
+            update team_membership_history set valid_to = ?
+            where team_id = ? and role = 'LEAD' and valid_to is null
+            """;
+
+    private final Map<SharedSessionContractImplementor, PendingHistory> pending = new ConcurrentHashMap<>();
+    private final Clock clock = Clock.systemUTC();
+    private final EntityManagerFactory entityManagerFactory;
+
+    public MembershipHistoryListener(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Registers once all singletons exist rather than in the constructor: under the faststart profile's background
+     * JPA bootstrap, waiting for the session factory while a singleton is in creation would block the bootstrap
+     * thread as soon as it looks up a bean (the JDBC observation listener does so on its first connection)
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Employee) {
+            Long teamId = idOf(event.getState()[propertyIndex(event.getPersister(), "team")]);
+            if (teamId != null) {
+                pendingFor(event.getSession()).open((Long) event.getId(), teamId, MembershipRole.MEMBER, clock.instant());
+            }
+        } else if (event.getEntity() instanceof Team) {
+            Long leadId = idOf(event.getState()[propertyIndex(event.getPersister(), "teamLead")]);
+            if (leadId != null) {
+                pendingFor(event.getSession()).open(leadId, (Long) event.getId(), MembershipRole.LEAD, clock.instant());
+            }
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Employee) {
+            int team = propertyIndex(event.getPersister(), "team");
+            if (changed(event, team)) {
+                Instant now = clock.instant();
+                PendingHistory history = pendingFor(event.getSession());
+                history.closeMembership((Long) event.getId(), now);
+                Long teamId = idOf(event.getState()[team]);
+                if (teamId != null) {
+                    history.open((Long) event.getId(), teamId, MembershipRole.MEMBER, now);
+                }
+            }
+        } else if (event.getEntity() instanceof Team) {
+            int lead = propertyIndex(event.getPersister(), "teamLead");
+            if (changed(event, lead)) {
+                Instant now = clock.instant();
+                PendingHistory history = pendingFor(event.getSession());
+                history.closeLead((Long) event.getId(), now);
+                Long leadId = idOf(event.getState()[lead]);
+                if (leadId != null) {
+                    history.open(leadId, (Long) event.getId(), MembershipRole.LEAD, now);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Employee) {
+            pendingFor(event.getSession()).closeMembership((Long) event.getId(), clock.instant());
+        } else if (event.getEntity() instanceof Team) {
+            pendingFor(event.getSession()).closeLead((Long) event.getId(), clock.instant());
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private PendingHistory pendingFor(EventSource session) {
+        return pending.computeIfAbsent(session, key -> {
+            PendingHistory history = new PendingHistory();
+            session.getActionQueue().registerProcess(history);
+            session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, completed) -> pending.remove(key));
+            return history;
+        });
+    }
+
+    private static boolean changed(PostUpdateEvent event, int property) {
+        if (event.getOldState() != null) {
+            return !Objects.equals(idOf(event.getOldState()[property]), idOf(event.getState()[property]));
+        }
+        // detached entity merged without a snapshot, Hibernate still knows which properties it wrote
+        int[] dirty = event.getDirtyProperties();
+        if (dirty == null) {
+            return true;
+        }
+        for (int index : dirty) {
+            if (index == property) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int propertyIndex(EntityPersister persister, String property) {
+        return persister.getEntityMetamodel().getPropertyIndex(property);
+    }
+
+    // reading the id of an uninitialized proxy does not load it
+    private static Long idOf(Object entity) {
+        if (entity instanceof Team team) {
+            return team.getId();
+        }
+        if (entity instanceof Employee employee) {
+            return employee.getId();
+        }
+        return null;
+    }
+
+    private enum Kind { OPEN, CLOSE_MEMBERSHIP, CLOSE_LEAD }
+
+    private record Change(Kind kind, Long employeeId, Long teamId, MembershipRole role, Instant at) {
+    }
+
+    private static class PendingHistory implements BeforeTransactionCompletionProcess {
+
+        private final List<Change> changes = new ArrayList<>();
+
+        void open(Long employeeId, Long teamId, MembershipRole role, Instant at) {
+            changes.add(new Change(Kind.OPEN, employeeId, teamId, role, at));
+        }
+
+        void closeMembership(Long employeeId, Instant at) {
+            changes.add(new Change(Kind.CLOSE_MEMBERSHIP, employeeId, null, null, at));
+        }
+
+        void closeLead(Long teamId, Instant at) {
+            changes.add(new Change(Kind.CLOSE_LEAD, null, teamId, null, at));
+        }
+
+        @Override
+        public void doBeforeTransactionCompletion(SessionImplementor session) {
+            String tenant = session.getTenantIdentifier();
+            session.doWork(connection -> {
+                int from = 0;
+                while (from < changes.size()) {
+                    Kind kind = changes.get(from).kind();
+                    int to = from;
+                    while (to < changes.size() && changes.get(to).kind() == kind) {
+                        to++;
+                    }
+                    write(connection, tenant, kind, changes.subList(from, to));
+                    from = to;
+                }
+            });
+        }
+
+        private static void write(Connection connection, String tenant, Kind kind, List<Change> run) throws SQLException {
+            String sql = switch (kind) {
+                case OPEN -> OPEN;
+                case CLOSE_MEMBERSHIP -> CLOSE_MEMBERSHIP;
+                case CLOSE_LEAD -> CLOSE_LEAD;
+            };
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (Change change : run) {
+                    OffsetDateTime at = OffsetDateTime.ofInstant(change.at(), ZoneOffset.UTC);
+                    switch (kind) {
+                        case OPEN -> {
+                            statement.setString(1, tenant);
+                            statement.setLong(2, change.employeeId());
+                            statement.setLong(3, change.teamId());
+                            statement.setString(4, change.role().name());
+                            statement.setObject(5, at);
+                        }
+                        case CLOSE_MEMBERSHIP -> {
+                            statement.setObject(1, at);
+                            statement.setLong(2, change.employeeId());
+                        }
+                        case CLOSE_LEAD -> {
+                            statement.setObject(1, at);
+                            statement.setLong(2, change.teamId());
+                        }
+                    }
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+    }
+}
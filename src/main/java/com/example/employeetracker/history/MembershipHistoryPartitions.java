@@ -0,0 +1,46 @@
+package com.example.employeetracker.history;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Year;
+import java.time.ZoneOffset;
+
+/**
+ * Creates the yearly partitions of {@code team_membership_history} before rows for them arrive,
+ * so new intervals never pile up in the default partition
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "employee-tracker.history", name = "manage-partitions", havingValue = "true", matchIfMissing = true)
+public class MembershipHistoryPartitions {
+
+    private static final String CREATE_PARTITION = """
+            create table if not exists team_membership_history_y%1$d partition of team_membership_history
+            for values from ('%1$d-01-01 00:00:00+00') to ('%2$d-01-01 00:00:00+00')
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MembershipHistoryProperties properties;
+    private final Clock clock = Clock.systemUTC();
+
+    @Scheduled(initialDelayString = "PT1M", fixedDelayString = "PT24H")
+    public void createUpcomingPartitions() {
+        int currentYear = Year.now(clock.withZone(ZoneOffset.UTC)).getValue();
+        for (int year = currentYear; year <= currentYear + properties.getPartitionYearsAhead(); year++) {
+            try {
+                jdbcTemplate.execute(String.format(CREATE_PARTITION, year, year + 1));
+            } catch (DataAccessException e) {
+                // e.g. rows of that year already sit in the default partition and have to be moved by hand
+                log.warn("Could not create the {} partition of team_membership_history: {}", year, e.getMessage());
+            }
+        }
+    }
+}
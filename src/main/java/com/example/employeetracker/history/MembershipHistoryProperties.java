@@ -0,0 +1,21 @@
+package com.example.employeetracker.history;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee-tracker.history")
+public class MembershipHistoryProperties {
+
+    /**
+     * Whether yearly partitions of team_membership_history are created ahead of time (PostgreSQL only)
+     */
+    private boolean managePartitions = true;
+
+    /**
+     * How many years past the current one always have a partition
+     */
+    private int partitionYearsAhead = 2;
+}
@@ -0,0 +1,32 @@
+package com.example.employeetracker.history;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Adds {@code period_contains(validFrom, validTo, at)} to HQL: whether the instant lies in {@code [validFrom, validTo)},
+ * a null {@code validTo} meaning the period is still open.
+ * <p>
+ * On PostgreSQL it renders as {@code tstzrange(valid_from, valid_to) @> at}, which the GiST index
+ * {@code idx_membership_history_team_period} answers. Other databases (H2 in the tests) get the plain comparisons.
+ * Registered through {@code META-INF/services}.
+ */
+public class PeriodFunctionContributor implements FunctionContributor {
+
+    public static final String PERIOD_CONTAINS = "period_contains";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        String pattern = functionContributions.getDialect() instanceof PostgreSQLDialect
+                ? "tstzrange(?1, ?2) @> cast(?3 as timestamp with time zone)"
+                : "(?1 <= ?3 and (?2 is null or ?2 > ?3))";
+        functionContributions.getFunctionRegistry()
+                .patternDescriptorBuilder(PERIOD_CONTAINS, pattern)
+                .setExactArgumentCount(3)
+                .setInvariantType(functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.BOOLEAN))
+                .register();
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.employeetracker.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee-tracker.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * How long a stored response can be replayed
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * Upper bound on stored responses, the oldest ones are purged first
+     */
+    private int maxEntries = 100_000;
+}
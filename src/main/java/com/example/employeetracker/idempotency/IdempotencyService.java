@@ -0,0 +1,141 @@
+package com.example.employeetracker.idempotency;
+
+import com.example.employeetracker.concurrency.ConflictRetry;
+import com.example.employeetracker.concurrency.RetryOnConflict;
+import com.example.employeetracker.domain.IdempotencyRecord;
+import com.example.employeetracker.domain.IdempotencyStatus;
+import com.example.employeetracker.repository.IdempotencyRecordRepository;
+import com.example.employeetracker.tenant.TenantContext;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Makes create endpoints safe to retry.
+ * <p>
+ * The first request with a given {@code Idempotency-Key} claims the key with an {@code insert ... on conflict do
+ * nothing}, runs the create and stores its response, all in one transaction: a create that fails or a node that
+ * dies before the commit leaves no trace, so the retry runs it again. Any retry with the same key and the same body
+ * gets the stored response back without touching the employee or team tables. A concurrent request with the same
+ * key, on this node or any other, waits in its own claim until the first one commits or rolls back.
+ * <p>
+ * The create joins this transaction, so its own {@link RetryOnConflict} does not apply; a conflict rolls back the
+ * claim along with the create, and the whole transaction is retried instead.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private final IdempotencyRecordRepository repository;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock = Clock.systemUTC();
+
+    public IdempotencyService(IdempotencyRecordRepository repository, IdempotencyProperties properties,
+                              ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Runs the action once per key.
+     *
+     * @param scope          The endpoint, e.g. {@code POST /api/employee}; the same key may be reused on another endpoint
+     * @param idempotencyKey The client supplied key, if {@code null} or blank the action simply runs
+     * @param request        The request body, used to detect a key reused for a different request
+     * @param responseType   Type of the stored response
+     * @param action         The actual create, it has to join the caller's transaction. Runs again if that
+     *                       transaction loses an optimistic locking race
+     * @return The fresh or the replayed response
+     * @throws IllegalArgumentException If the key was already used with a different request body
+     * @throws IllegalStateException    If the key's first request has not finished yet
+     */
+    public <T> T execute(String scope, String idempotencyKey, Object request,
+                         TypeReference<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        // keys are chosen by clients, so two tenants may well pick the same one
+        String key = TenantContext.current() + ' ' + scope + ' ' + idempotencyKey;
+        String requestHash = hash(toJson(request));
+
+        return ConflictRetry.run(scope, RetryOnConflict.DEFAULT_MAX_ATTEMPTS, () -> transactionTemplate.execute(status -> {
+            Instant now = clock.instant();
+            repository.deleteExpired(key, now);
+            if (repository.claim(key, requestHash, now, now.plus(properties.getTtl())) == 0) {
+                return replay(key, idempotencyKey, requestHash, responseType);
+            }
+            T response = action.get();
+            repository.complete(key, toJson(response));
+            return response;
+        }));
+    }
+
+    private <T> T replay(String key, String idempotencyKey, String requestHash, TypeReference<T> responseType) {
+        IdempotencyRecord stored = repository.findById(key)
+                .filter(storedRecord -> storedRecord.getStatus() == IdempotencyStatus.COMPLETED)
+                .orElseThrow(() -> new IllegalStateException(String.format(
+                        "A request with Idempotency-Key '%s' is still in progress, please retry", idempotencyKey)));
+        if (!stored.getRequestHash().equals(requestHash)) {
+            throw new IllegalArgumentException(String.format(
+                    "Idempotency-Key '%s' was already used for a different request", idempotencyKey));
+        }
+        return fromJson(stored.getResponseBody(), responseType);
+    }
+
+    /**
+     * Drops expired responses, then trims the table down to the configured maximum size
+     */
+    @Scheduled(fixedDelayString = "${employee-tracker.idempotency.purge-interval:PT5M}")
+    public void purge() {
+        int expired = repository.deleteExpired(clock.instant());
+        List<Instant> cutoff = repository.findCreatedAtNewestFirst(PageRequest.of(properties.getMaxEntries(), 1));
+        int overflow = cutoff.isEmpty() ? 0 : repository.deleteCreatedBefore(cutoff.get(0));
+        if (expired + overflow > 0) {
+            log.debug("Purged {} expired and {} overflowing idempotency records", expired, overflow);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise idempotent request or response", e);
+        }
+    }
+
+    private <T> T fromJson(String json, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read stored idempotent response", e);
+        }
+    }
+
+    private static String hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
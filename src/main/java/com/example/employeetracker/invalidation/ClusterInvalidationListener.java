@@ -0,0 +1,178 @@
+package com.example.employeetracker.invalidation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listens for other nodes' {@link InvalidationMessage}s and evicts what they changed from the local cache.
+ * <p>
+ * The listening connection is opened next to the pool, since it has to stay on one session for as long as
+ * the node runs. Whenever messages may have been missed the whole cache is flushed instead:
+ * <ul>
+ *   <li>after (re)connecting, for anything committed while nobody listened</li>
+ *   <li>when a sender's sequence number stays skipped for longer than the gap timeout</li>
+ *   <li>when a payload can't be read</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "employee-tracker.invalidation", name = "enabled", havingValue = "true")
+public class ClusterInvalidationListener implements SmartLifecycle {
+
+    private static final String CHANNEL_PATTERN = "[a-z_][a-z0-9_]{0,62}";
+
+    private final ClusterNode node;
+    private final InvalidationProperties properties;
+    private final DataSourceProperties dataSourceProperties;
+    private final EntityManagerFactory entityManagerFactory;
+    private final MessageSequences sequences;
+    private final Counter applied;
+    private final MeterRegistry meterRegistry;
+
+    private LocalCacheInvalidator invalidator;
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread thread;
+
+    public ClusterInvalidationListener(ClusterNode node,
+                                       InvalidationProperties properties,
+                                       DataSourceProperties dataSourceProperties,
+                                       EntityManagerFactory entityManagerFactory,
+                                       MeterRegistry meterRegistry) {
+        if (!properties.getChannel().matches(CHANNEL_PATTERN)) {
+            // LISTEN takes no bind parameters
+            throw new IllegalArgumentException("Invalid invalidation channel: " + properties.getChannel());
+        }
+        this.node = node;
+        this.properties = properties;
+        this.dataSourceProperties = dataSourceProperties;
+        this.entityManagerFactory = entityManagerFactory;
+        this.sequences = new MessageSequences(properties.getGapTimeout().toNanos(), properties.getMaxMissing());
+        this.meterRegistry = meterRegistry;
+        this.applied = Counter.builder("cache.invalidation.applied")
+                .description("Invalidation messages from other nodes applied to the local cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reads the session factory only here: under the faststart profile it is still being bootstrapped in the
+     * background while the singletons are created, and waiting for it in the constructor can deadlock
+     */
+    @Override
+    public void start() {
+        invalidator = new LocalCacheInvalidator(entityManagerFactory);
+        running = true;
+        thread = new Thread(this::listen, "cache-invalidation-" + node.getId());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        closeQuietly(connection);
+        thread.interrupt();
+        try {
+            thread.join(properties.getPollInterval().toMillis() * 2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection listening = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                connection = listening;
+                try (Statement statement = listening.createStatement()) {
+                    statement.execute("LISTEN " + properties.getChannel());
+                }
+                sequences.forget();
+                flush("connected");
+                PGConnection notifications = listening.unwrap(PGConnection.class);
+                int pollMillis = (int) properties.getPollInterval().toMillis();
+                while (running) {
+                    PGNotification[] received = notifications.getNotifications(pollMillis);
+                    if (received != null) {
+                        for (PGNotification notification : received) {
+                            receive(notification.getParameter());
+                        }
+                    }
+                    if (sequences.hasLostMessages(System.nanoTime())) {
+                        flush("gap");
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Cache invalidation listener lost its connection, reconnecting in {}",
+                            properties.getReconnectDelay(), e);
+                    sleep(properties.getReconnectDelay().toMillis());
+                }
+            }
+        }
+    }
+
+    private void receive(String payload) {
+        InvalidationMessage message;
+        try {
+            message = InvalidationMessage.decode(payload);
+        } catch (IllegalArgumentException e) {
+            log.warn("Unreadable invalidation message '{}'", payload);
+            flush("unreadable");
+            return;
+        }
+        if (node.getId().equals(message.node())) {
+            return;
+        }
+        if (!sequences.record(message.node(), message.sequence(), System.nanoTime())) {
+            flush("gap");
+            return;
+        }
+        invalidator.apply(message);
+        applied.increment();
+    }
+
+    private void flush(String reason) {
+        invalidator.flush();
+        sequences.reset();
+        meterRegistry.counter("cache.invalidation.flushes", "reason", reason).increment();
+        log.info("Flushed the second-level cache ({})", reason);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+                // the listening thread notices and ends
+            }
+        }
+    }
+}
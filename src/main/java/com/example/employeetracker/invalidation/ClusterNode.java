@@ -0,0 +1,20 @@
+package com.example.employeetracker.invalidation;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Identifies this running instance in invalidation messages, so it can skip its own
+ */
+@Component
+@ConditionalOnProperty(prefix = "employee-tracker.invalidation", name = "enabled", havingValue = "true")
+public class ClusterNode {
+
+    private final String id = UUID.randomUUID().toString().substring(0, 8);
+
+    public String getId() {
+        return id;
+    }
+}
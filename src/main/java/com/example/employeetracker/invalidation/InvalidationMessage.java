@@ -0,0 +1,89 @@
+package com.example.employeetracker.invalidation;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * What one committed transaction changed, as far as other nodes' caches are concerned.
+ * <p>
+ * Encoded as a single line, e.g. {@code v1 3f2a9c1e 42 acme e=7,9 t=3 m=3,4}: sender, sequence number, tenant,
+ * then the changed employees, teams and team member lists by ID. A {@code flush} message drops everything.
+ *
+ * @param node        The sending {@link ClusterNode}
+ * @param sequence    Per sender, increases by one with every message
+ * @param tenant      Tenant of the changed rows, part of every cache key
+ * @param employees   Employee entities to evict
+ * @param teams       Team entities to evict
+ * @param teamMembers Teams whose cached member list to evict
+ * @param flush       Evict every cache region instead
+ */
+public record InvalidationMessage(String node, long sequence, String tenant,
+                                  Set<Long> employees, Set<Long> teams, Set<Long> teamMembers, boolean flush) {
+
+    private static final String VERSION = "v1";
+
+    /**
+     * NOTIFY payloads must stay below 8000 bytes
+     */
+    static final int MAX_PAYLOAD = 7900;
+
+    public static InvalidationMessage flush(String node, long sequence) {
+        return new InvalidationMessage(node, sequence, "*", Set.of(), Set.of(), Set.of(), true);
+    }
+
+    /**
+     * Evicts nothing, only accounts for the sequence number of a transaction that rolled back after taking it
+     */
+    public static InvalidationMessage skipped(String node, long sequence) {
+        return new InvalidationMessage(node, sequence, "*", Set.of(), Set.of(), Set.of(), false);
+    }
+
+    public String encode() {
+        if (flush) {
+            return String.join(" ", VERSION, node, String.valueOf(sequence), "*", "flush");
+        }
+        StringBuilder payload = new StringBuilder(VERSION).append(' ').append(node)
+                .append(' ').append(sequence).append(' ').append(tenant);
+        append(payload, "e=", employees);
+        append(payload, "t=", teams);
+        append(payload, "m=", teamMembers);
+        return payload.length() <= MAX_PAYLOAD ? payload.toString() : flush(node, sequence).encode();
+    }
+
+    /**
+     * @throws IllegalArgumentException If the payload is not a message of this version
+     */
+    public static InvalidationMessage decode(String payload) {
+        String[] parts = payload.split(" ");
+        if (parts.length < 4 || !VERSION.equals(parts[0])) {
+            throw new IllegalArgumentException("Not an invalidation message: " + payload);
+        }
+        String node = parts[1];
+        long sequence = Long.parseLong(parts[2]);
+        if (parts.length == 5 && "flush".equals(parts[4])) {
+            return flush(node, sequence);
+        }
+        Set<Long> employees = new TreeSet<>();
+        Set<Long> teams = new TreeSet<>();
+        Set<Long> teamMembers = new TreeSet<>();
+        for (int i = 4; i < parts.length; i++) {
+            Set<Long> target = switch (parts[i].substring(0, 2)) {
+                case "e=" -> employees;
+                case "t=" -> teams;
+                case "m=" -> teamMembers;
+                default -> throw new IllegalArgumentException("Unknown part '" + parts[i] + "' in " + payload);
+            };
+            Arrays.stream(parts[i].substring(2).split(",")).map(Long::valueOf).forEach(target::add);
+        }
+        return new InvalidationMessage(node, sequence, parts[3], employees, teams, teamMembers, false);
+    }
+
+    private static void append(StringBuilder payload, String prefix, Set<Long> ids) {
+        if (!ids.isEmpty()) {
+            payload.append(' ').append(prefix)
+                    .append(ids.stream().sorted().map(String::valueOf).collect(Collectors.joining(",")));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.employeetracker.invalidation;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee-tracker.invalidation")
+public class InvalidationProperties {
+
+    /**
+     * Whether second-level cache invalidations are exchanged between nodes over PostgreSQL LISTEN/NOTIFY
+     */
+    private boolean enabled = false;
+
+    /**
+     * NOTIFY channel, shared by all nodes of one deployment
+     */
+    private String channel = "employee_tracker_invalidation";
+
+    /**
+     * How long a node waits on its listening connection before checking for gaps and shutdown
+     */
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    /**
+     * How long a message may be missing before the caches are flushed. Concurrent transactions of one node
+     * can commit out of order, so a gap is only a lost message once it stays open this long
+     */
+    private Duration gapTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Missing messages from one node above which the caches are flushed right away
+     */
+    private int maxMissing = 1000;
+
+    /**
+     * Wait before reconnecting after the listening connection failed
+     */
+    private Duration reconnectDelay = Duration.ofSeconds(2);
+}
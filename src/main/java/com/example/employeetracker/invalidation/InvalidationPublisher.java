@@ -0,0 +1,234 @@
+package com.example.employeetracker.invalidation;
+
+import com.example.employeetracker.domain.Employee;
+import com.example.employeetracker.domain.Team;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tells the other nodes which cached employees, teams and member lists a transaction changed.
+ * <p>
+ * Like {@code MembershipHistoryListener} this listens to Hibernate rather than to the service methods, so every
+ * write path is covered. The changes of one session are sent as a single {@code pg_notify} just before the
+ * transaction commits. PostgreSQL delivers a notification only once its transaction has committed and drops it
+ * on rollback, so other nodes never evict for a change they can't see yet, nor for one that never happened.
+ * <p>
+ * A transaction that fails at commit (a deferred constraint, say) has already taken its sequence number. So that
+ * the other nodes don't wait for it and flush, the number is then sent again as an empty message, outside any
+ * transaction.
+ */
+@Slf4j
+@Component
+@Lazy(false) // nothing depends on the listener, so lazy initialization would never register it
+@ConditionalOnProperty(prefix = "employee-tracker.invalidation", name = "enabled", havingValue = "true")
+public class InvalidationPublisher
+        implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener, SmartInitializingSingleton {
+
+    private final Map<SharedSessionContractImplementor, PendingInvalidation> pending = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final EntityManagerFactory entityManagerFactory;
+    private final ClusterNode node;
+    private final InvalidationProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+
+    public InvalidationPublisher(EntityManagerFactory entityManagerFactory,
+                                 ClusterNode node,
+                                 InvalidationProperties properties,
+                                 JdbcTemplate jdbcTemplate,
+                                 DataSource dataSource) {
+        this.node = node;
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Registers once all singletons exist, for the same reason as {@code MembershipHistoryListener}
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        // a new team is in no cache yet, a new employee changes its team's member list
+        if (event.getEntity() instanceof Employee) {
+            Long teamId = teamOf(event.getPersister(), event.getState());
+            if (teamId != null) {
+                pendingFor(event.getSession()).teamMembers.add(teamId);
+            }
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Employee) {
+            PendingInvalidation invalidation = pendingFor(event.getSession());
+            invalidation.employees.add((Long) event.getId());
+            Long teamId = teamOf(event.getPersister(), event.getState());
+            Long oldTeamId = event.getOldState() != null ? teamOf(event.getPersister(), event.getOldState()) : null;
+            if (!Objects.equals(teamId, oldTeamId) || event.getOldState() == null) {
+                // without a snapshot (detached merge) only the new team is known
+                addIfPresent(invalidation.teamMembers, teamId);
+                addIfPresent(invalidation.teamMembers, oldTeamId);
+            }
+        } else if (event.getEntity() instanceof Team) {
+            pendingFor(event.getSession()).teams.add((Long) event.getId());
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Employee) {
+            PendingInvalidation invalidation = pendingFor(event.getSession());
+            invalidation.employees.add((Long) event.getId());
+            addIfPresent(invalidation.teamMembers, teamOf(event.getPersister(), event.getDeletedState()));
+        } else if (event.getEntity() instanceof Team) {
+            PendingInvalidation invalidation = pendingFor(event.getSession());
+            invalidation.teams.add((Long) event.getId());
+            invalidation.teamMembers.add((Long) event.getId());
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    /**
+     * For rows written past Hibernate. Joins the surrounding transaction, so it has to be called inside one.
+     *
+     * @param tenant  Tenant the rows were written for
+     * @param teamIds Teams whose member lists changed
+     */
+    public void publishTeamMembers(String tenant, Collection<Long> teamIds) {
+        if (teamIds.isEmpty()) {
+            return;
+        }
+        InvalidationMessage message = new InvalidationMessage(node.getId(), sequence.incrementAndGet(), tenant,
+                Set.of(), Set.of(), new TreeSet<>(teamIds), false);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    release(message.sequence());
+                }
+            }
+        });
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            send(connection, message);
+            return null;
+        });
+    }
+
+    private void send(Connection connection, InvalidationMessage message) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("select pg_notify(?, ?)")) {
+            statement.setString(1, properties.getChannel());
+            statement.setString(2, message.encode());
+            statement.execute();
+        }
+    }
+
+    /**
+     * Sends a rolled back transaction's sequence number on a connection of its own, which commits right away.
+     * Should that fail too, the gap stays open and the other nodes flush once it times out.
+     */
+    private void release(long rolledBack) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            send(connection, InvalidationMessage.skipped(node.getId(), rolledBack));
+        } catch (SQLException e) {
+            log.warn("Could not release invalidation sequence number {}", rolledBack, e);
+        }
+    }
+
+    private PendingInvalidation pendingFor(EventSource session) {
+        return pending.computeIfAbsent(session, key -> {
+            PendingInvalidation invalidation = new PendingInvalidation();
+            session.getActionQueue().registerProcess(invalidation);
+            session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, completed) -> {
+                pending.remove(key);
+                if (!success && invalidation.taken != 0) {
+                    release(invalidation.taken);
+                }
+            });
+            return invalidation;
+        });
+    }
+
+    private static Long teamOf(EntityPersister persister, Object[] state) {
+        Object team = state[persister.getEntityMetamodel().getPropertyIndex("team")];
+        // reading the id of an uninitialized proxy does not load it
+        return team instanceof Team t ? t.getId() : null;
+    }
+
+    private static void addIfPresent(Set<Long> ids, Long id) {
+        if (id != null) {
+            ids.add(id);
+        }
+    }
+
+    private class PendingInvalidation implements BeforeTransactionCompletionProcess {
+
+        private final Set<Long> employees = new TreeSet<>();
+        private final Set<Long> teams = new TreeSet<>();
+        private final Set<Long> teamMembers = new TreeSet<>();
+
+        /**
+         * Taken just before commit, 0 until then
+         */
+        private long taken;
+
+        @Override
+        public void doBeforeTransactionCompletion(SessionImplementor session) {
+            taken = sequence.incrementAndGet();
+            InvalidationMessage message = new InvalidationMessage(node.getId(), taken,
+                    session.getTenantIdentifier(), employees, teams, teamMembers, false);
+            session.doWork(connection -> send(connection, message));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.employeetracker.invalidation;
+
+import com.example.employeetracker.domain.Employee;
+import com.example.employeetracker.domain.Team;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.spi.access.CollectionDataAccess;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Applies {@link InvalidationMessage}s to this node's second-level cache.
+ * <p>
+ * Cache keys carry the tenant, so entries are evicted through the access strategies with the message's tenant;
+ * {@code Cache.evictEntityData(Class, id)} would build keys without it and miss them.
+ */
+public class LocalCacheInvalidator {
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final EntityPersister employees;
+    private final EntityPersister teams;
+    private final CollectionPersister teamMembers;
+
+    public LocalCacheInvalidator(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.employees = sessionFactory.getMappingMetamodel().getEntityDescriptor(Employee.class);
+        this.teams = sessionFactory.getMappingMetamodel().getEntityDescriptor(Team.class);
+        this.teamMembers = sessionFactory.getMappingMetamodel().getCollectionDescriptor(Team.class.getName() + ".employees");
+    }
+
+    public void apply(InvalidationMessage message) {
+        if (message.flush()) {
+            flush();
+            return;
+        }
+        evict(employees, message.employees(), message.tenant());
+        evict(teams, message.teams(), message.tenant());
+        CollectionDataAccess members = teamMembers.getCacheAccessStrategy();
+        message.teamMembers().forEach(teamId ->
+                members.evict(members.generateCacheKey(teamId, teamMembers, sessionFactory, message.tenant())));
+    }
+
+    /**
+     * Drops every cached entity, collection and query result of every tenant
+     */
+    public void flush() {
+        sessionFactory.getCache().evictAll();
+    }
+
+    private void evict(EntityPersister persister, Iterable<Long> ids, String tenant) {
+        EntityDataAccess access = persister.getCacheAccessStrategy();
+        ids.forEach(id -> access.evict(access.generateCacheKey(id, persister, sessionFactory, tenant)));
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.employeetracker.invalidation;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Follows the sequence numbers of every sender to notice lost messages.
+ * <p>
+ * A skipped number is remembered as missing. It may still arrive, since transactions of one node commit
+ * (and so notify) in any order. Only a number missing for longer than the gap timeout counts as lost.
+ * Used by the single listening thread only, so not thread-safe.
+ */
+class MessageSequences {
+
+    private final long gapTimeoutNanos;
+    private final int maxMissing;
+    private final Map<String, Sender> senders = new HashMap<>();
+
+    MessageSequences(long gapTimeoutNanos, int maxMissing) {
+        this.gapTimeoutNanos = gapTimeoutNanos;
+        this.maxMissing = maxMissing;
+    }
+
+    /**
+     * @return false if so many messages are missing that waiting for them is pointless
+     */
+    boolean record(String node, long sequence, long nowNanos) {
+        Sender sender = senders.get(node);
+        if (sender == null) {
+            // whatever this node sent before we listened is covered by the flush on connect
+            senders.put(node, new Sender(sequence, nowNanos));
+            return true;
+        }
+        sender.lastSeen = nowNanos;
+        if (sequence > sender.highest) {
+            for (long skipped = sender.highest + 1; skipped < sequence; skipped++) {
+                sender.missingSince.put(skipped, nowNanos);
+                if (sender.missingSince.size() > maxMissing) {
+                    return false;
+                }
+            }
+            sender.highest = sequence;
+        } else {
+            sender.missingSince.remove(sequence);
+        }
+        return true;
+    }
+
+    /**
+     * Also forgets senders that have been silent for ten gap timeouts and have nothing missing
+     *
+     * @return true if some message has been missing for longer than the gap timeout
+     */
+    boolean hasLostMessages(long nowNanos) {
+        boolean lost = false;
+        Iterator<Sender> iterator = senders.values().iterator();
+        while (iterator.hasNext()) {
+            Sender sender = iterator.next();
+            if (!sender.missingSince.isEmpty()
+                    && nowNanos - sender.missingSince.firstEntry().getValue() > gapTimeoutNanos) {
+                lost = true;
+            } else if (sender.missingSince.isEmpty() && nowNanos - sender.lastSeen > 10 * gapTimeoutNanos) {
+                iterator.remove();
+            }
+        }
+        return lost;
+    }
+
+    /**
+     * After a flush nothing that was missing matters anymore
+     */
+    void reset() {
+        senders.values().forEach(sender -> sender.missingSince.clear());
+    }
+
+    /**
+     * After reconnecting, messages sent meanwhile are lost for good and must not show up as a gap
+     */
+    void forget() {
+        senders.clear();
+    }
+
+    private static final class Sender {
+        private long highest;
+        private long lastSeen;
+        private final TreeMap<Long, Long> missingSince = new TreeMap<>();
+
+        private Sender(long highest, long lastSeen) {
+            this.highest = highest;
+            this.lastSeen = lastSeen;
+        }
+    }
+}
@@ -1,38 +1,71 @@
 package com.example.employeetracker.mapper;
 
 import com.example.employeetracker.domain.Employee;
+import com.example.employeetracker.profiling.OperationProfile;
+import com.example.employeetracker.request.EmployeeFields;
 import com.example.employeetracker.response.EmployeeResponse;
 
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Every public method reports its time to {@link OperationProfile}, which only does work while a JFR recording
+ * has {@code ServiceOperationEvent} enabled
+ */
 public class EmployeeMapper {
 
     public static EmployeeResponse toResponse(Employee employee) {
         if (employee == null) {
             return null;
         }
-            return EmployeeResponse.builder()
-                .id(employee.getId())
-                .personalId(employee.getPersonalId())
-                .name(employee.getName())
-                .teamId(employee.getTeam() != null ? employee.getTeam().getId() : null)
-                .build();
+        long mapping = OperationProfile.mappingStarted();
+        try {
+            return new EmployeeResponse(
+                    employee.getId(),
+                    employee.getPersonalId(),
+                    employee.getName(),
+                    employee.getTeam() != null ? employee.getTeam().getId() : null
+            );
+        } finally {
+            OperationProfile.mappingFinished(mapping);
+        }
     }
 
+    /**
+     * Maps only the selected fields, the rest stay {@code null} and are left out of the JSON.
+     * The team reference is read through its foreign key, so the team itself is never loaded.
+     */
+    public static EmployeeResponse toResponse(Employee employee, EmployeeFields fields) {
+        if (employee == null) {
+            return null;
+        }
+        long mapping = OperationProfile.mappingStarted();
+        try {
+            return new EmployeeResponse(
+                    fields.id() ? employee.getId() : null,
+                    fields.personalId() ? employee.getPersonalId() : null,
+                    fields.name() ? employee.getName() : null,
+                    fields.teamId() && employee.getTeam() != null ? employee.getTeam().getId() : null
+            );
+        } finally {
+            OperationProfile.mappingFinished(mapping);
+        }
+    }
+
+    /**
+     * Large lists are mapped in parallel chunks, see {@link ParallelMapper}.
+     * The workers are not timed themselves, the calling thread's wait for them is.
+     */
     public static List<EmployeeResponse> toResponses(List<Employee> employees) {
         if (employees == null || employees.isEmpty()) {
             return new ArrayList<>();
         }
-
-        return employees.stream()
-                .map(employee -> EmployeeResponse.builder()
-                        .id(employee.getId())
-                        .personalId(employee.getPersonalId())
-                        .name(employee.getName())
-                        .teamId(employee.getTeam() != null ? employee.getTeam().getId() : null)
-                        .build())
-                .toList();
+        long mapping = OperationProfile.mappingStarted();
+        try {
+            return ParallelMapper.map(employees, EmployeeMapper::toResponse);
+        } finally {
+            OperationProfile.mappingFinished(mapping);
+        }
     }
 
 }
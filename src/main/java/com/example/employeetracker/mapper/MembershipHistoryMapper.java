@@ -0,0 +1,17 @@
+package com.example.employeetracker.mapper;
+
+import com.example.employeetracker.domain.MembershipHistory;
+import com.example.employeetracker.response.MembershipResponse;
+
+public class MembershipHistoryMapper {
+
+    public static MembershipResponse toResponse(MembershipHistory history) {
+        return new MembershipResponse(
+                history.getEmployeeId(),
+                history.getTeamId(),
+                history.getRole(),
+                history.getValidFrom(),
+                history.getValidTo()
+        );
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.employeetracker.mapper;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * Maps large lists on a small dedicated fork/join pool, small lists on the calling thread.
+ * <p>
+ * The source is copied to an array on the calling thread first, so a lazy Hibernate collection is
+ * initialized there and the workers only ever read loaded state. The mapping function must not
+ * trigger lazy loading itself (reading the id of a proxy is fine).
+ * The pool is separate from the common pool so mapping can't starve parallel streams elsewhere.
+ */
+public final class ParallelMapper {
+
+    /**
+     * Below this many elements the hand-off to the pool costs more than it saves
+     */
+    static final int PARALLEL_THRESHOLD = 4096;
+
+    /**
+     * Elements a single fork/join task maps sequentially
+     */
+    static final int CHUNK_SIZE = 1024;
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(
+            Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() - 1, 8)),
+            pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("parallel-mapper-" + thread.getPoolIndex());
+                return thread;
+            },
+            null,
+            false);
+
+    private ParallelMapper() {
+    }
+
+    /**
+     * Maps every element, keeping the source order
+     *
+     * @param source The elements to map, {@code null} is treated as empty
+     * @param mapper Maps one element, must be thread safe
+     * @return An unmodifiable list with the mapped elements
+     */
+    public static <T, R> List<R> map(List<T> source, Function<? super T, ? extends R> mapper) {
+        if (source == null || source.isEmpty()) {
+            return List.of();
+        }
+        Object[] items = source.toArray();
+        Object[] mapped = new Object[items.length];
+        if (items.length < PARALLEL_THRESHOLD || POOL.getParallelism() == 1) {
+            mapRange(items, mapped, 0, items.length, mapper);
+        } else {
+            POOL.invoke(new MapChunk<>(items, mapped, 0, items.length, mapper));
+        }
+        @SuppressWarnings("unchecked")
+        List<R> result = (List<R>) Collections.unmodifiableList(Arrays.asList(mapped));
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, R> void mapRange(Object[] items, Object[] mapped, int from, int to,
+                                        Function<? super T, ? extends R> mapper) {
+        for (int i = from; i < to; i++) {
+            mapped[i] = mapper.apply((T) items[i]);
+        }
+    }
+
+    private static final class MapChunk<T, R> extends RecursiveAction {
+        private final Object[] items;
+        private final Object[] mapped;
+        private final int from;
+        private final int to;
+        private final Function<? super T, ? extends R> mapper;
+
+        private MapChunk(Object[] items, Object[] mapped, int from, int to, Function<? super T, ? extends R> mapper) {
+            this.items = items;
+            this.mapped = mapped;
+            this.from = from;
+            this.to = to;
+            this.mapper = mapper;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                mapRange(items, mapped, from, to, mapper);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new MapChunk<>(items, mapped, from, middle, mapper),
+                    new MapChunk<>(items, mapped, middle, to, mapper));
+        }
+    }
+}
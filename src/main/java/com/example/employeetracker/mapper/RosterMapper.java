@@ -0,0 +1,25 @@
+package com.example.employeetracker.mapper;
+
+import com.example.employeetracker.response.RosterRowResponse;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class RosterMapper {
+
+    public static final List<String> CSV_HEADER = List.of(
+            "employeeId", "personalId", "name", "teamId", "teamName", "teamLeadId", "teamLeadName", "teamLead");
+
+    public static List<?> toCsvRecord(RosterRowResponse row) {
+        return Arrays.asList(
+                row.employeeId(),
+                row.personalId(),
+                row.name(),
+                row.teamId(),
+                row.teamName(),
+                row.teamLeadId(),
+                row.teamLeadName(),
+                row.teamLead()
+        );
+    }
+}
@@ -2,39 +2,65 @@ package com.example.employeetracker.mapper;
 
 import com.example.employeetracker.domain.Employee;
 import com.example.employeetracker.domain.Team;
+import com.example.employeetracker.profiling.OperationProfile;
+import com.example.employeetracker.request.TeamFields;
 import com.example.employeetracker.request.TeamRequest;
 import com.example.employeetracker.response.EmployeeResponse;
 import com.example.employeetracker.response.TeamResponse;
 
 import java.util.List;
 
+/**
+ * Times its public methods like {@link EmployeeMapper}. Lazy associations loaded while mapping count as mapping time.
+ */
 public class TeamMapper {
 
     public static TeamResponse toResponse(Team team) {
-        return TeamResponse.builder()
-                .id(team.getId())
-                .name(team.getName())
-                .teamLead(mapToTeamLead(team.getTeamLead()))
-                .employees(mapToEmployeesList(team.getEmployees()))
-                .build();
+        long mapping = OperationProfile.mappingStarted();
+        try {
+            return new TeamResponse(
+                    team.getId(),
+                    team.getName(),
+                    mapToTeamLead(team.getTeamLead()),
+                    mapToEmployeesList(team.getEmployees())
+            );
+        } finally {
+            OperationProfile.mappingFinished(mapping);
+        }
+    }
+
+    /**
+     * Maps only the selected fields. Lead and employees are lazy associations,
+     * so skipping them here means they are never loaded from the database either.
+     */
+    public static TeamResponse toResponse(Team team, TeamFields fields) {
+        long mapping = OperationProfile.mappingStarted();
+        try {
+            return new TeamResponse(
+                    fields.id() ? team.getId() : null,
+                    fields.name() ? team.getName() : null,
+                    fields.teamLead() ? mapToTeamLead(team.getTeamLead()) : null,
+                    fields.employees() ? mapToEmployeesList(team.getEmployees()) : null
+            );
+        } finally {
+            OperationProfile.mappingFinished(mapping);
+        }
     }
 
     private static EmployeeResponse mapToTeamLead(Employee teamLead) {
-        if (teamLead == null) return null;
-        return new EmployeeResponse(
-                teamLead.getId(),
-                teamLead.getPersonalId(),
-                teamLead.getName(),
-                teamLead.getTeam() != null ? teamLead.getTeam().getId() : null
-        );
+        return EmployeeMapper.toResponse(teamLead);
     }
 
+    /**
+     * Large lists are mapped in parallel chunks, see {@link ParallelMapper}
+     */
     public static List<EmployeeResponse> mapToEmployeesList(List<Employee> employees) {
-        if (employees == null) return List.of();
-        return employees.stream()
-                .map(emp -> new EmployeeResponse(emp.getId(), emp.getPersonalId(), emp.getName(),
-                        emp.getTeam() != null? emp.getTeam().getId() : null))
-                .toList();
+        long mapping = OperationProfile.mappingStarted();
+        try {
+            return ParallelMapper.map(employees, EmployeeMapper::toResponse);
+        } finally {
+            OperationProfile.mappingFinished(mapping);
+        }
     }
 
 }
@@ -0,0 +1,98 @@
+package com.example.employeetracker.profiling;
+
+/**
+ * Counters of the service operation running on the current thread, filled in while a {@link ServiceOperationEvent}
+ * is being recorded.
+ * <p>
+ * When no recording has the event enabled there is no profile, and every entry point returns after a single
+ * thread-local read. Work done on other threads (the chunks of {@code ParallelMapper}) is not counted separately,
+ * it is covered by the time the calling thread spends waiting for it.
+ */
+public final class OperationProfile {
+
+    /**
+     * Returned by {@link #mappingStarted()} when there is nothing to time
+     */
+    private static final long NOT_TIMED = Long.MIN_VALUE;
+
+    /**
+     * Returned by {@link #mappingStarted()} inside an outer mapping call, which already covers the time
+     */
+    private static final long NESTED = Long.MIN_VALUE + 1;
+
+    private static final ThreadLocal<OperationProfile> CURRENT = new ThreadLocal<>();
+
+    private final OperationProfile outer;
+    private int queries;
+    private long mappingNanos;
+    private int mappingDepth;
+
+    private OperationProfile(OperationProfile outer) {
+        this.outer = outer;
+    }
+
+    /**
+     * Starts counting for an operation on the current thread, nested inside the one already running if any
+     */
+    static OperationProfile begin() {
+        OperationProfile profile = new OperationProfile(CURRENT.get());
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    /**
+     * Stops counting and hands the counts on to the outer operation, so its event covers the nested calls too
+     */
+    void end() {
+        if (outer == null) {
+            CURRENT.remove();
+            return;
+        }
+        outer.queries += queries;
+        outer.mappingNanos += mappingNanos;
+        CURRENT.set(outer);
+    }
+
+    int queries() {
+        return queries;
+    }
+
+    long mappingNanos() {
+        return mappingNanos;
+    }
+
+    static void queryExecuted() {
+        OperationProfile profile = CURRENT.get();
+        if (profile != null) {
+            profile.queries++;
+        }
+    }
+
+    /**
+     * Marks the start of a mapper call. Only the outermost call on the thread is timed, so mappers that delegate
+     * to each other are counted once.
+     *
+     * @return The token to pass to {@link #mappingFinished(long)}
+     */
+    public static long mappingStarted() {
+        OperationProfile profile = CURRENT.get();
+        if (profile == null) {
+            return NOT_TIMED;
+        }
+        return profile.mappingDepth++ == 0 ? System.nanoTime() : NESTED;
+    }
+
+    /**
+     * @param started The token returned by {@link #mappingStarted()}
+     */
+    public static void mappingFinished(long started) {
+        if (started == NOT_TIMED) {
+            return;
+        }
+        OperationProfile profile = CURRENT.get();
+        profile.mappingDepth--;
+        if (started != NESTED) {
+            profile.mappingNanos += System.nanoTime() - started;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.employeetracker.profiling;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Counts the statements run on the current thread for {@link OperationProfile}.
+ * <p>
+ * Registered with the proxy data source that also feeds the JDBC spans, so statements issued by Hibernate and by
+ * {@code JdbcTemplate} are counted alike.
+ */
+@Component
+public class QueryCountingListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        OperationProfile.queryExecuted();
+    }
+}
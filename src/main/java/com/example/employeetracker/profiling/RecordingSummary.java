@@ -0,0 +1,118 @@
+package com.example.employeetracker.profiling;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summarises the {@link ServiceOperationEvent}s of a recording, hottest operation (most total time) first.
+ * <p>
+ * Only needs the JDK, so it runs straight from the compiled classes:
+ * {@code java -cp target/classes com.example.employeetracker.profiling.RecordingSummary recording.jfr [limit]}
+ */
+public final class RecordingSummary {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private RecordingSummary() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: RecordingSummary <recording.jfr> [limit]");
+            System.exit(2);
+        }
+        int limit = args.length == 2 ? Integer.parseInt(args[1]) : DEFAULT_LIMIT;
+        System.out.print(format(summarise(Path.of(args[0])), limit));
+    }
+
+    /**
+     * @param recording A JFR recording file
+     * @return One entry per service operation, by total time spent, descending
+     */
+    public static List<OperationSummary> summarise(Path recording) throws IOException {
+        Map<String, Accumulator> operations = new HashMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                if (!event.getEventType().getName().equals(ServiceOperationEvent.NAME)) {
+                    continue;
+                }
+                String name = event.getString("service") + "." + event.getString("operation");
+                operations.computeIfAbsent(name, Accumulator::new).add(event);
+            }
+        }
+        return operations.values().stream()
+                .map(Accumulator::summary)
+                .sorted(Comparator.comparing(OperationSummary::total).reversed())
+                .toList();
+    }
+
+    public static String format(List<OperationSummary> summaries, int limit) {
+        StringBuilder out = new StringBuilder(String.format("%-40s %8s %8s %10s %10s %10s %9s %9s %8s %7s%n",
+                "operation", "calls", "failed", "total ms", "p50 ms", "p99 ms", "queries", "entities", "map %", "q/call"));
+        summaries.stream().limit(limit).forEach(summary -> out.append(String.format(
+                "%-40s %8d %8d %10.1f %10.2f %10.2f %9d %9d %8.1f %7.1f%n",
+                summary.operation(), summary.calls(), summary.failed(),
+                millis(summary.total()), millis(summary.p50()), millis(summary.p99()),
+                summary.queries(), summary.entities(),
+                summary.total().isZero() ? 0.0 : 100.0 * summary.mapping().toNanos() / summary.total().toNanos(),
+                (double) summary.queries() / summary.calls())));
+        return out.toString();
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+
+    /**
+     * Totals of one service operation over the recording
+     */
+    public record OperationSummary(String operation, long calls, long failed, Duration total, Duration p50,
+                                   Duration p99, long queries, long entities, Duration mapping) {
+    }
+
+    private static final class Accumulator {
+        private final String operation;
+        private final List<Duration> durations = new ArrayList<>();
+        private long failed;
+        private long queries;
+        private long entities;
+        private Duration total = Duration.ZERO;
+        private Duration mapping = Duration.ZERO;
+
+        private Accumulator(String operation) {
+            this.operation = operation;
+        }
+
+        private void add(RecordedEvent event) {
+            durations.add(event.getDuration());
+            total = total.plus(event.getDuration());
+            mapping = mapping.plus(event.getDuration("mappingTime"));
+            queries += event.getInt("queries");
+            entities += event.getInt("entities");
+            if (event.getBoolean("failed")) {
+                failed++;
+            }
+        }
+
+        private OperationSummary summary() {
+            durations.sort(null);
+            return new OperationSummary(operation, durations.size(), failed, total,
+                    percentile(0.50), percentile(0.99), queries, entities, mapping);
+        }
+
+        private Duration percentile(double percentile) {
+            int index = (int) Math.ceil(percentile * durations.size()) - 1;
+            return durations.get(Math.max(index, 0));
+        }
+    }
+}
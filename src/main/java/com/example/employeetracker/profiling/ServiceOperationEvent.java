@@ -0,0 +1,48 @@
+package com.example.employeetracker.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * One call of an {@code EmployeeService} or {@code TeamService} method, committed by {@link ServiceOperationProfiler}.
+ * <p>
+ * The event's own duration covers the whole call, including the transaction commit.
+ * Stack traces are off: the operation name already says where the time went, and walking the stack is the
+ * most expensive part of committing an event.
+ */
+@Name(ServiceOperationEvent.NAME)
+@Label("Service Operation")
+@Category({"Employee Tracker", "Service"})
+@Description("A call of an employee or team service method")
+@StackTrace(false)
+public class ServiceOperationEvent extends Event {
+
+    public static final String NAME = "com.example.employeetracker.ServiceOperation";
+
+    @Label("Service")
+    String service;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Entities")
+    @Description("Entities returned, or handed to the consumer of a streaming operation")
+    int entities;
+
+    @Label("Queries")
+    @Description("JDBC statements executed on the calling thread, a batch counts once")
+    int queries;
+
+    @Label("Mapping Time")
+    @Description("Time spent in EmployeeMapper and TeamMapper, lazy loading triggered by the mapping included")
+    @Timespan(Timespan.NANOSECONDS)
+    long mappingTime;
+
+    @Label("Failed")
+    boolean failed;
+}
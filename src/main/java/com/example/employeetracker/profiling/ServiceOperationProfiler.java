@@ -0,0 +1,76 @@
+package com.example.employeetracker.profiling;
+
+import com.example.employeetracker.serviceinterface.EmployeeService;
+import com.example.employeetracker.serviceinterface.TeamService;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Records a {@link ServiceOperationEvent} for every public {@link EmployeeService} and {@link TeamService} call.
+ * <p>
+ * Ordered outside the retry and transaction advice, so the event covers every attempt and the commit, and the
+ * statements flushed at commit are counted. While no recording has the event enabled the call goes straight through.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+public class ServiceOperationProfiler {
+
+    @Around("execution(public * *(..)) && (target(com.example.employeetracker.serviceinterface.EmployeeService)"
+            + " || target(com.example.employeetracker.serviceinterface.TeamService))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServiceOperationEvent event = new ServiceOperationEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        Object[] args = joinPoint.getArgs();
+        int[] consumed = new int[1];
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof Consumer<?> consumer) {
+                args[i] = counting(consumer, consumed);
+            }
+        }
+        OperationProfile profile = OperationProfile.begin();
+        event.begin();
+        try {
+            Object result = joinPoint.proceed(args);
+            event.entities = consumed[0] + entitiesIn(result);
+            return result;
+        } catch (Throwable e) {
+            event.failed = true;
+            throw e;
+        } finally {
+            event.end();
+            profile.end();
+            if (event.shouldCommit()) {
+                event.service = joinPoint.getTarget() instanceof EmployeeService ? EmployeeService.class.getSimpleName()
+                        : TeamService.class.getSimpleName();
+                event.operation = joinPoint.getSignature().getName();
+                event.queries = profile.queries();
+                event.mappingTime = profile.mappingNanos();
+                event.commit();
+            }
+        }
+    }
+
+    private static int entitiesIn(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        return result instanceof Collection<?> collection ? collection.size() : 1;
+    }
+
+    private static <T> Consumer<T> counting(Consumer<T> consumer, int[] consumed) {
+        return item -> {
+            consumed[0]++;
+            consumer.accept(item);
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.employeetracker.ratelimit;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Reports how many request threads are currently queued for a database connection
+ */
+@Component
+public class ConnectionPoolPressure {
+
+    private final HikariDataSource hikariDataSource;
+
+    public ConnectionPoolPressure(DataSource dataSource) {
+        this.hikariDataSource = unwrapHikari(dataSource);
+    }
+
+    /**
+     * @return Threads blocked waiting for a connection, 0 if the pool is not Hikari or not started yet
+     */
+    public int threadsAwaitingConnection() {
+        if (hikariDataSource == null) {
+            return 0;
+        }
+        HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+        return pool != null ? pool.getThreadsAwaitingConnection() : 0;
+    }
+
+    private static HikariDataSource unwrapHikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.employeetracker.ratelimit;
+
+/**
+ * Groups endpoints by how expensive they are for the database,
+ * every group gets its own token budget per client
+ */
+public enum EndpointClass {
+    /** Single row lookups by primary key */
+    READ,
+    /** Single row creates, updates and deletes */
+    WRITE,
+    /** Searches and full listings that scan a table */
+    SCAN,
+    /** Bulk writes such as {@code /api/employee/batch} */
+    BATCH
+}
@@ -0,0 +1,158 @@
+package com.example.employeetracker.ratelimit;
+
+import com.example.employeetracker.client.ApiClients;
+import com.example.employeetracker.exception.RateLimitExceededException;
+import com.example.employeetracker.exception.ServiceOverloadedException;
+import com.example.employeetracker.tenant.TenantContext;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.function.HandlerFunction;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs in front of every controller method and the {@code /graphql} endpoint and rejects requests early, before they
+ * ever ask the pool for a connection:
+ * <ul>
+ *     <li>{@code 503} when too many threads already wait for a database connection (load shedding)</li>
+ *     <li>{@code 429} when the client used up its token budget for the endpoint class</li>
+ *     <li>{@code 429} when the client's tenant already runs its share of concurrent scans or batches</li>
+ * </ul>
+ * Budgets are kept per tenant and client, so one tenant's traffic never uses up another tenant's budget.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String SCAN_SLOT = RateLimitInterceptor.class.getName() + ".scanSlot";
+
+    private final RateLimitProperties properties;
+    private final ConnectionPoolPressure poolPressure;
+    private final ApiClients apiClients;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final ReentrantLock eviction = new ReentrantLock();
+    private final Map<String, Semaphore> scanSlots = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // async results are dispatched a second time, that one must not be charged again
+        if (!properties.isEnabled() || !(handler instanceof HandlerMethod || handler instanceof HandlerFunction<?>)
+                || request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        EndpointClass endpointClass = classify(request, handler);
+
+        shedIfOverloaded(endpointClass);
+
+        String tenant = TenantContext.current();
+        TokenBucket bucket = bucketFor(tenant + '|' + clientKey(request), endpointClass);
+        if (!bucket.tryConsume()) {
+            throw new RateLimitExceededException(endpointClass, bucket.secondsUntilNextToken());
+        }
+        if (isExpensive(endpointClass)) {
+            acquireScanSlot(request, tenant);
+        }
+        return true;
+    }
+
+    /**
+     * Also runs after the async dispatch of streamed responses, so a slot is held until the last byte is written
+     */
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(SCAN_SLOT) instanceof Semaphore slot) {
+            request.removeAttribute(SCAN_SLOT);
+            slot.release();
+        }
+    }
+
+    private void acquireScanSlot(HttpServletRequest request, String tenant) {
+        Semaphore slots = scanSlots.computeIfAbsent(tenant,
+                key -> new Semaphore(properties.getMaxConcurrentScansPerTenant()));
+        if (!slots.tryAcquire()) {
+            throw new RateLimitExceededException(String.format(
+                    "Tenant %s already runs %d scans or batches, retry in 1 s",
+                    tenant, properties.getMaxConcurrentScansPerTenant()), 1);
+        }
+        request.setAttribute(SCAN_SLOT, slots);
+    }
+
+    private static boolean isExpensive(EndpointClass endpointClass) {
+        return endpointClass == EndpointClass.SCAN || endpointClass == EndpointClass.BATCH;
+    }
+
+    private void shedIfOverloaded(EndpointClass endpointClass) {
+        int waiting = poolPressure.threadsAwaitingConnection();
+        int limit = isExpensive(endpointClass) ? properties.getShedQueueDepth() : properties.getShedQueueDepth() * 2;
+        if (waiting >= limit) {
+            throw new ServiceOverloadedException(waiting);
+        }
+    }
+
+    private TokenBucket bucketFor(String client, EndpointClass endpointClass) {
+        if (buckets.size() >= properties.getMaxTrackedClients() && eviction.tryLock()) {
+            try {
+                evictBuckets();
+            } finally {
+                eviction.unlock();
+            }
+        }
+        return buckets.computeIfAbsent(client + '|' + endpointClass, key -> {
+            RateLimitProperties.Budget budget = properties.budgetFor(endpointClass);
+            return new TokenBucket(budget.getCapacity(), budget.getRefillPerSecond());
+        });
+    }
+
+    /**
+     * Full buckets are dropped first, forgetting them loses nothing. If that is not enough, e.g. under many
+     * short-lived remote addresses, the least recently used go too, so the map stays bounded
+     */
+    private void evictBuckets() {
+        buckets.values().removeIf(TokenBucket::isFull);
+        int excess = buckets.size() - properties.getMaxTrackedClients() * 3 / 4;
+        if (excess > 0) {
+            buckets.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().lastUsedNanos()))
+                    .limit(excess)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(buckets::remove);
+        }
+    }
+
+    /**
+     * Clients that authenticate with a known API key share one budget wherever they call from, everyone else
+     * is keyed by remote address
+     */
+    private String clientKey(HttpServletRequest request) {
+        return apiClients.authenticate(request)
+                .map(client -> "client:" + client.name())
+                .orElseGet(() -> "address:" + request.getRemoteAddr());
+    }
+
+    /**
+     * {@code /graphql} is served by a handler function rather than a controller method. One query can list
+     * hundreds of teams with all their members, so it counts as a scan
+     */
+    private static EndpointClass classify(HttpServletRequest request, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return EndpointClass.SCAN;
+        }
+        RateLimited rateLimited = handlerMethod.getMethodAnnotation(RateLimited.class);
+        if (rateLimited != null) {
+            return rateLimited.value();
+        }
+        return HttpMethod.GET.matches(request.getMethod()) ? EndpointClass.READ : EndpointClass.WRITE;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.employeetracker.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee-tracker.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Token budget per client for every {@link EndpointClass}
+     */
+    private Map<EndpointClass, Budget> budgets = new EnumMap<>(EndpointClass.class);
+
+    /**
+     * Threads waiting for a pooled connection above which expensive requests are shed with 503.
+     * Cheap requests are shed only at twice this depth.
+     */
+    private int shedQueueDepth = 20;
+
+    /**
+     * Scan and batch requests one tenant may run at the same time. Keeps a large tenant's full scans from
+     * taking all pooled connections, so other tenants' requests still get one
+     */
+    private int maxConcurrentScansPerTenant = 4;
+
+    /**
+     * Number of client buckets kept. Beyond it, idle (full) buckets are dropped first, then the least recently
+     * used ones down to three quarters of this
+     */
+    private int maxTrackedClients = 10_000;
+
+    @Getter
+    @Setter
+    public static class Budget {
+        private long capacity = 100;
+        private double refillPerSecond = 50;
+    }
+
+    public Budget budgetFor(EndpointClass endpointClass) {
+        return budgets.getOrDefault(endpointClass, new Budget());
+    }
+}
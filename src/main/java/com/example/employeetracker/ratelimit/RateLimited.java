@@ -0,0 +1,16 @@
+package com.example.employeetracker.ratelimit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Puts a controller method into a specific {@link EndpointClass}.
+ * Methods without it count as {@link EndpointClass#READ} for GET and {@link EndpointClass#WRITE} otherwise.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+    EndpointClass value();
+}
@@ -1,13 +1,38 @@
 package com.example.employeetracker.repository;
 
 import com.example.employeetracker.domain.Employee;
+import com.example.employeetracker.response.EmployeeResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee> {
     List<Employee> findAll(Specification<Employee> specification);
 
+    /**
+     * Streams every employee through a server-side cursor instead of loading the whole table.
+     * Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select e from Employee e")
+    Stream<Employee> streamAll();
+
+    /**
+     * The first members by ID of each of the given teams as responses, without loading the entities
+     */
+    @Query("select new com.example.employeetracker.response.EmployeeResponse(m.id, m.personalId, m.name, m.teamId) "
+            + "from (select e.id as id, e.personalId as personalId, e.name as name, e.team.id as teamId, "
+            + "row_number() over (partition by e.team.id order by e.id) as position "
+            + "from Employee e where e.team.id in :teamIds) m "
+            + "where m.position <= :first order by m.id")
+    List<EmployeeResponse> findResponsesByTeamIds(Collection<Long> teamIds, int first);
+
 }
@@ -0,0 +1,47 @@
+package com.example.employeetracker.repository;
+
+import com.example.employeetracker.domain.IdempotencyRecord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * Inserts the key as in progress unless it exists. Waits for a concurrent, uncommitted claim of the same key
+     *
+     * @return 1 if this transaction now holds the key, 0 if it was already taken
+     */
+    @Modifying
+    @Query(value = "insert into idempotency_keys (idempotency_key, request_hash, status, created_at, expires_at) "
+            + "values (:key, :requestHash, 'IN_PROGRESS', :now, :expiresAt) on conflict do nothing",
+            nativeQuery = true)
+    int claim(String key, String requestHash, Instant now, Instant expiresAt);
+
+    @Modifying
+    @Query("update IdempotencyRecord r set r.status = com.example.employeetracker.domain.IdempotencyStatus.COMPLETED, "
+            + "r.responseBody = :responseBody where r.key = :key")
+    int complete(String key, String responseBody);
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.key = :key and r.expiresAt < :now")
+    int deleteExpired(String key, Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.expiresAt < :now")
+    int deleteExpired(Instant now);
+
+    @Query("select r.createdAt from IdempotencyRecord r order by r.createdAt desc")
+    List<Instant> findCreatedAtNewestFirst(Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.createdAt < :cutoff")
+    int deleteCreatedBefore(Instant cutoff);
+}
@@ -0,0 +1,34 @@
+package com.example.employeetracker.repository;
+
+import com.example.employeetracker.domain.MembershipHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface MembershipHistoryRepository extends JpaRepository<MembershipHistory, Long> {
+
+    /**
+     * Intervals of a team that last until now, the lead first. Reads only the open intervals, however long the
+     * team's history is
+     */
+    @Query("select h from MembershipHistory h where h.teamId = :teamId and h.validTo is null "
+            + "order by h.role, h.employeeId")
+    List<MembershipHistory> findOpenByTeam(Long teamId);
+
+    /**
+     * Intervals of a team that contain the given instant, the lead first.
+     * Uses {@code period_contains}, see {@code PeriodFunctionContributor}
+     */
+    @Query("select h from MembershipHistory h where h.teamId = :teamId "
+            + "and period_contains(h.validFrom, h.validTo, :at) order by h.role, h.employeeId")
+    List<MembershipHistory> findByTeamAsOf(Long teamId, Instant at);
+
+    /**
+     * Intervals of an employee that overlap {@code [from, to)}, oldest first
+     */
+    @Query("select h from MembershipHistory h where h.employeeId = :employeeId and h.validFrom < :to "
+            + "and (h.validTo is null or h.validTo > :from) order by h.validFrom, h.id")
+    List<MembershipHistory> findByEmployeeBetween(Long employeeId, Instant from, Instant to);
+}
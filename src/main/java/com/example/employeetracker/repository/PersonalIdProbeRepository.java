@@ -0,0 +1,37 @@
+package com.example.employeetracker.repository;
+
+import com.example.employeetracker.tenant.TenantContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Finds which personal IDs are taken, binding all of them as a single array parameter, so the statement
+ * (and its plan) is the same whatever the number of IDs. Bypasses Hibernate's tenant filter, so it restricts
+ * itself to the current tenant.
+ */
+@Repository
+public class PersonalIdProbeRepository {
+
+    private static final String SELECT_EXISTING =
+            "select personal_id from employees where tenant_id = ? and personal_id = any(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PersonalIdProbeRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @param personalIds The IDs to look for
+     * @return Those of them already used by an employee
+     */
+    public List<String> findExisting(Collection<String> personalIds) {
+        return jdbcTemplate.query(SELECT_EXISTING, statement -> {
+            statement.setString(1, TenantContext.current());
+            statement.setArray(2, statement.getConnection().createArrayOf("varchar", personalIds.toArray()));
+        }, (resultSet, rowNum) -> resultSet.getString(1));
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.employeetracker.repository;
+
+import com.example.employeetracker.config.ReactiveReadProperties;
+import com.example.employeetracker.request.TeamFields;
+import com.example.employeetracker.response.EmployeeResponse;
+import com.example.employeetracker.response.TeamResponse;
+import com.example.employeetracker.tenant.TenantContext;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Non-blocking reads of employees and teams over R2DBC, next to the JPA repositories that own all writes.
+ * <p>
+ * The pool is created here rather than exposed as a {@code ConnectionFactory} bean: such a bean would switch
+ * Spring Boot's JDBC {@code DataSource} auto-configuration off, and the JPA side still needs it.
+ * Rows are requested {@link ReactiveReadProperties#getFetchSize()} at a time, driven by the subscriber's demand.
+ * The tenant is read when the query is built, on the request thread, since the rows arrive on other threads.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "employee-tracker.reactive", name = "enabled", havingValue = "true")
+public class ReactiveReadRepository implements DisposableBean {
+
+    private static final String SELECT_EMPLOYEES = "select id, personal_id, name, team_id from employees";
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+    private final int fetchSize;
+
+    public ReactiveReadRepository(ReactiveReadProperties properties) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(
+                Objects.requireNonNull(properties.getUrl(), "employee-tracker.reactive.url is required")).mutate();
+        if (properties.getUsername() != null) {
+            options.option(ConnectionFactoryOptions.USER, properties.getUsername());
+        }
+        if (properties.getPassword() != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, properties.getPassword());
+        }
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options.build()))
+                .maxSize(properties.getMaxPoolSize())
+                .maxAcquireTime(properties.getMaxAcquireTime())
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+        this.fetchSize = properties.getFetchSize();
+    }
+
+    public Flux<EmployeeResponse> findAllEmployees() {
+        return databaseClient.sql(SELECT_EMPLOYEES + " where tenant_id = :tenant order by id")
+                .bind("tenant", TenantContext.current())
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(ReactiveReadRepository::toEmployee)
+                .all();
+    }
+
+    /**
+     * Same matching as {@code EmployeeSpecification.filterEmployee}
+     */
+    public Flux<EmployeeResponse> searchEmployees(String personalId, String name) {
+        return databaseClient.sql(SELECT_EMPLOYEES
+                        + " where tenant_id = :tenant and personal_id like :personalId and name like :name order by id")
+                .bind("tenant", TenantContext.current())
+                .bind("personalId", isBlank(personalId) ? "%%" : personalId)
+                .bind("name", isBlank(name) ? "%%" : name)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(ReactiveReadRepository::toEmployee)
+                .all();
+    }
+
+    public Flux<TeamResponse> findAllTeams(TeamFields fields) {
+        return searchTeams(null, null, fields);
+    }
+
+    /**
+     * Same matching as {@code TeamSpecification.filterTeams}. Lead and members are joined in the same query
+     * (only when selected) and the rows of one team are folded into a single response.
+     */
+    public Flux<TeamResponse> searchTeams(String teamName, Long teamLeadId, TeamFields fields) {
+        StringBuilder sql = new StringBuilder("select t.id as team_id, t.name as team_name");
+        sql.append(fields.teamLead()
+                ? ", l.id as lead_id, l.personal_id as lead_personal_id, l.name as lead_name, l.team_id as lead_team_id"
+                : ", null as lead_id, null as lead_personal_id, null as lead_name, null as lead_team_id");
+        sql.append(fields.employees()
+                ? ", e.id as employee_id, e.personal_id as employee_personal_id, e.name as employee_name"
+                : ", null as employee_id, null as employee_personal_id, null as employee_name");
+        sql.append(" from teams t");
+        if (fields.teamLead()) {
+            sql.append(" left join employees l on l.id = t.team_lead_id");
+        }
+        if (fields.employees()) {
+            sql.append(" left join employees e on e.team_id = t.id");
+        }
+        List<String> predicates = new ArrayList<>();
+        predicates.add("t.tenant_id = :tenant");
+        if (!isBlank(teamName)) {
+            predicates.add("lower(t.name) like :teamName");
+        }
+        if (teamLeadId != null) {
+            predicates.add("t.team_lead_id = :teamLeadId");
+        }
+        sql.append(" where ").append(String.join(" and ", predicates));
+        sql.append(fields.employees() ? " order by t.id, e.id" : " order by t.id");
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString())
+                .bind("tenant", TenantContext.current());
+        if (!isBlank(teamName)) {
+            spec = spec.bind("teamName", "%" + teamName.toLowerCase() + "%");
+        }
+        if (teamLeadId != null) {
+            spec = spec.bind("teamLeadId", teamLeadId);
+        }
+        return spec.filter(statement -> statement.fetchSize(fetchSize))
+                .map(ReactiveReadRepository::toTeamRow)
+                .all()
+                .bufferUntilChanged(TeamRow::teamId)
+                .map(rows -> toTeam(rows, fields));
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+    private static EmployeeResponse toEmployee(Readable row) {
+        return new EmployeeResponse(
+                row.get("id", Long.class),
+                row.get("personal_id", String.class),
+                row.get("name", String.class),
+                row.get("team_id", Long.class)
+        );
+    }
+
+    private static TeamRow toTeamRow(Readable row) {
+        return new TeamRow(
+                row.get("team_id", Long.class),
+                row.get("team_name", String.class),
+                row.get("lead_id", Long.class),
+                row.get("lead_personal_id", String.class),
+                row.get("lead_name", String.class),
+                row.get("lead_team_id", Long.class),
+                row.get("employee_id", Long.class),
+                row.get("employee_personal_id", String.class),
+                row.get("employee_name", String.class)
+        );
+    }
+
+    private static TeamResponse toTeam(List<TeamRow> rows, TeamFields fields) {
+        TeamRow first = rows.get(0);
+        EmployeeResponse lead = first.leadId() == null ? null
+                : new EmployeeResponse(first.leadId(), first.leadPersonalId(), first.leadName(), first.leadTeamId());
+        List<EmployeeResponse> employees = fields.employees()
+                ? rows.stream()
+                .filter(row -> row.employeeId() != null)
+                .map(row -> new EmployeeResponse(row.employeeId(), row.employeePersonalId(), row.employeeName(), row.teamId()))
+                .toList()
+                : null;
+        return new TeamResponse(
+                fields.id() ? first.teamId() : null,
+                fields.name() ? first.teamName() : null,
+                lead,
+                employees
+        );
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private record TeamRow(Long teamId, String teamName,
+                           Long leadId, String leadPersonalId, String leadName, Long leadTeamId,
+                           Long employeeId, String employeePersonalId, String employeeName) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.employeetracker.repository;
+
+import com.example.employeetracker.response.RosterRowResponse;
+import com.example.employeetracker.tenant.TenantContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * Reads the flat employee/team roster with plain JDBC, so no entity, collection or response tree is built.
+ * Must run inside a transaction for the driver to use a cursor instead of buffering the whole result.
+ * Bypasses Hibernate's tenant filter, so every query restricts itself to the current tenant.
+ */
+@Repository
+public class RosterExportRepository {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String SELECT_ROSTER = """
+            select e.id, e.personal_id, e.name, t.id as team_id, t.name as team_name,
+                   t.team_lead_id, l.name as team_lead_name
+            from employees e
+                     left join teams t on t.id = e.team_id
+                     left join employees l on l.id = t.team_lead_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RosterExportRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    public void streamRoster(Consumer<RosterRowResponse> consumer) {
+        jdbcTemplate.query(SELECT_ROSTER + " where e.tenant_id = ? order by e.id", rowHandler(consumer),
+                TenantContext.current());
+    }
+
+    public void streamTeamRoster(Long teamId, Consumer<RosterRowResponse> consumer) {
+        jdbcTemplate.query(SELECT_ROSTER + " where e.tenant_id = ? and e.team_id = ? order by e.id", rowHandler(consumer),
+                TenantContext.current(), teamId);
+    }
+
+    private static RowCallbackHandler rowHandler(Consumer<RosterRowResponse> consumer) {
+        return resultSet -> consumer.accept(toRow(resultSet));
+    }
+
+    private static RosterRowResponse toRow(ResultSet resultSet) throws SQLException {
+        Long employeeId = resultSet.getLong("id");
+        Long teamLeadId = resultSet.getObject("team_lead_id", Long.class);
+        return new RosterRowResponse(
+                employeeId,
+                resultSet.getString("personal_id"),
+                resultSet.getString("name"),
+                resultSet.getObject("team_id", Long.class),
+                resultSet.getString("team_name"),
+                teamLeadId,
+                resultSet.getString("team_lead_name"),
+                employeeId.equals(teamLeadId)
+        );
+    }
+}
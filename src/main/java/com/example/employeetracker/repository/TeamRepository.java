@@ -1,11 +1,44 @@
 package com.example.employeetracker.repository;
 
 import com.example.employeetracker.domain.Team;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 
 public interface TeamRepository extends JpaRepository<Team, Long>, JpaSpecificationExecutor<Team> {
 
+    /**
+     * Streams every team through a server-side cursor instead of loading the whole table.
+     * Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "100"))
+    @Query("select t from Team t")
+    Stream<Team> streamAll();
+
+    /**
+     * Same as {@link #streamAll()}, but joins the team lead in the same query.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "100"))
+    @Query("select t from Team t left join fetch t.teamLead")
+    Stream<Team> streamAllWithLead();
+
+    /**
+     * Loads the teams with their employees joined. Teams already in the persistence context get their
+     * employee lists initialized by it, one query for all of them instead of one per team on first access.
+     */
+    @Query("select distinct t from Team t left join fetch t.employees where t.id in :ids")
+    List<Team> findWithEmployeesByIds(Collection<Long> ids);
+
+    @Query("select t.id from Team t where t.name = :name")
+    Optional<Long> findIdByName(String name);
+
 }
@@ -0,0 +1,49 @@
+package com.example.employeetracker.request;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The subset of {@link com.example.employeetracker.response.EmployeeResponse} fields a caller asked for
+ * through the {@code fields=} query parameter, e.g. {@code fields=id,name}.
+ */
+public record EmployeeFields(boolean id,
+                             boolean personalId,
+                             boolean name,
+                             boolean teamId) {
+
+    public static final EmployeeFields ALL = new EmployeeFields(true, true, true, true);
+
+    private static final Set<String> KNOWN = Set.of("id", "personalId", "name", "teamId");
+
+    /**
+     * Parses a comma separated field list
+     *
+     * @param fields The raw {@code fields} parameter, {@code null} or blank selects every field
+     * @return The parsed selection
+     * @throws IllegalArgumentException If an unknown field is requested
+     */
+    public static EmployeeFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> requested = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toSet());
+        requested.stream()
+                .filter(field -> !KNOWN.contains(field))
+                .findFirst()
+                .ifPresent(field -> {
+                    throw new IllegalArgumentException(
+                            String.format("Unknown employee field '%s', expected any of %s", field, KNOWN));
+                });
+        return new EmployeeFields(
+                requested.contains("id"),
+                requested.contains("personalId"),
+                requested.contains("name"),
+                requested.contains("teamId")
+        );
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.employeetracker.request;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The subset of {@link com.example.employeetracker.response.TeamResponse} fields a caller asked for
+ * through the {@code fields=} query parameter, e.g. {@code fields=id,name}.
+ * <p>
+ * Associations that are not selected are neither fetched from the database nor mapped.
+ */
+public record TeamFields(boolean id,
+                         boolean name,
+                         boolean teamLead,
+                         boolean employees) {
+
+    public static final TeamFields ALL = new TeamFields(true, true, true, true);
+
+    private static final Set<String> KNOWN = Set.of("id", "name", "teamLead", "employees");
+
+    /**
+     * Parses a comma separated field list
+     *
+     * @param fields The raw {@code fields} parameter, {@code null} or blank selects every field
+     * @return The parsed selection
+     * @throws IllegalArgumentException If an unknown field is requested
+     */
+    public static TeamFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> requested = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toSet());
+        requested.stream()
+                .filter(field -> !KNOWN.contains(field))
+                .findFirst()
+                .ifPresent(field -> {
+                    throw new IllegalArgumentException(
+                            String.format("Unknown team field '%s', expected any of %s", field, KNOWN));
+                });
+        return new TeamFields(
+                requested.contains("id"),
+                requested.contains("name"),
+                requested.contains("teamLead"),
+                requested.contains("employees")
+        );
+    }
+}
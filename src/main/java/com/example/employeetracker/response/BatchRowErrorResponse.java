@@ -0,0 +1,14 @@
+package com.example.employeetracker.response;
+
+import lombok.Builder;
+
+/**
+ * @param index      Position of the row in the request, starting at 0
+ * @param personalId The row's personal ID
+ * @param message    Why the row can't be inserted
+ */
+@Builder
+public record BatchRowErrorResponse(int index,
+                                    String personalId,
+                                    String message) {
+}
@@ -0,0 +1,12 @@
+package com.example.employeetracker.response;
+
+import lombok.Builder;
+
+@Builder
+public record CacheRegionStatisticsResponse(String region,
+                                            long hitCount,
+                                            long missCount,
+                                            long putCount,
+                                            double hitRatio,
+                                            long elementCountInMemory) {
+}
@@ -0,0 +1,16 @@
+package com.example.employeetracker.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Outcome of a roster import. Rejected rows are counted, the first few are listed in {@code errors}.
+ */
+@Builder
+public record EmployeeImportResponse(long rowsRead,
+                                     long imported,
+                                     long duplicates,
+                                     long rejected,
+                                     List<ImportRowErrorResponse> errors) {
+}
@@ -1,8 +1,10 @@
 package com.example.employeetracker.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record EmployeeResponse(Long id,
                                String personalId,
                                String name,
@@ -0,0 +1,12 @@
+package com.example.employeetracker.response;
+
+import lombok.Builder;
+
+/**
+ * @param row     Line of the data row in the file, the header is row 1
+ * @param message Why the row was not imported
+ */
+@Builder
+public record ImportRowErrorResponse(long row,
+                                     String message) {
+}
@@ -0,0 +1,16 @@
+package com.example.employeetracker.response;
+
+import com.example.employeetracker.domain.MembershipRole;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+import java.time.Instant;
+
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MembershipResponse(Long employeeId,
+                                 Long teamId,
+                                 MembershipRole role,
+                                 Instant validFrom,
+                                 Instant validTo) {
+}
@@ -0,0 +1,15 @@
+package com.example.employeetracker.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+/**
+ * One entry of a multi-get answer, in the position of the requested id.
+ * Ids that don't exist come back with {@code found=false} and no {@code item}.
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MultiGetResponse<T>(Long id,
+                                  boolean found,
+                                  T item) {
+}
@@ -0,0 +1,17 @@
+package com.example.employeetracker.response;
+
+import lombok.Builder;
+
+/**
+ * One employee-to-team assignment of a roster export, team columns are {@code null} for unassigned employees
+ */
+@Builder
+public record RosterRowResponse(Long employeeId,
+                                String personalId,
+                                String name,
+                                Long teamId,
+                                String teamName,
+                                Long teamLeadId,
+                                String teamLeadName,
+                                boolean teamLead) {
+}
@@ -0,0 +1,12 @@
+package com.example.employeetracker.response;
+
+import lombok.Builder;
+
+/**
+ * A team as a GraphQL node: the lead and members are resolved separately, in batches, only when a query selects them
+ */
+@Builder
+public record TeamNodeResponse(Long id,
+                               String name,
+                               Long teamLeadId) {
+}
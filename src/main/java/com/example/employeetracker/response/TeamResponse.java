@@ -1,11 +1,13 @@
 package com.example.employeetracker.response;
 
 import com.example.employeetracker.domain.Employee;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 
 import java.util.List;
 
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record TeamResponse(Long id,
                            String name,
                            EmployeeResponse teamLead,
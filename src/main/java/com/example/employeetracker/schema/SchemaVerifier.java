@@ -0,0 +1,98 @@
+package com.example.employeetracker.schema;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Refuses to start the application when the indexes and constraints the queries rely on are missing.
+ * <p>
+ * Hibernate's {@code ddl-auto=validate} only checks tables and columns; this catches a dropped or
+ * never-migrated index at startup instead of through slow-query logs in production.
+ * Runs after the Flyway migrations.
+ */
+@Slf4j
+@Component
+@DependsOnDatabaseInitialization
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "employee-tracker.schema", name = "verify", havingValue = "true", matchIfMissing = true)
+public class SchemaVerifier implements InitializingBean {
+
+    /**
+     * Index name, and the access pattern that needs it
+     */
+    static final List<String[]> REQUIRED_INDEXES = List.of(
+            new String[]{"idx_employees_team_id", "Team.employees loads, deleteTeam"},
+            new String[]{"idx_teams_tenant_lower_name", "case-insensitive team name lookup"},
+            new String[]{"idx_teams_tenant_lower_name_trgm", "team name contains search"},
+            new String[]{"idx_idempotency_keys_expires_at", "idempotency purge"},
+            new String[]{"idx_employees_tenant_personal_id_trgm", "employee search by personal id"},
+            new String[]{"idx_employees_tenant_name_trgm", "employee search by name"},
+            new String[]{"idx_employees_tenant_id", "full employee listings and exports of a tenant"},
+            new String[]{"idx_teams_tenant_id", "full team listings of a tenant"},
+            new String[]{"idx_membership_history_team_period", "team rosters as of a past instant"},
+            new String[]{"idx_membership_history_employee_from", "employee membership timelines"},
+            new String[]{"idx_membership_history_open_employee", "closing an employee's membership"},
+            new String[]{"idx_membership_history_open_team", "closing a team's lead interval, current rosters"}
+    );
+
+    static final List<String> REQUIRED_CONSTRAINTS = List.of(
+            "uk_employees_id_team",
+            "fk_teams_lead_member",
+            "uk_employees_tenant_personal_id",
+            "uk_teams_tenant_name",
+            "fk_employees_team_tenant"
+    );
+
+    /**
+     * Any unique index that starts with {@code team_lead_id} serves the search by lead; its name depends on whether
+     * the schema came from V1 or from {@code ddl-auto=update}
+     */
+    private static final String LEAD_INDEX_EXISTS = """
+            select exists (select 1
+                           from pg_index i
+                                    join pg_attribute a on a.attrelid = i.indrelid and a.attnum = i.indkey[0]
+                           where i.indrelid = 'teams'::regclass
+                             and i.indisunique
+                             and a.attname = 'team_lead_id')
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        Set<String> indexes = new HashSet<>(jdbcTemplate.queryForList(
+                "select indexname from pg_indexes where schemaname = current_schema()", String.class));
+        Set<String> constraints = new HashSet<>(jdbcTemplate.queryForList(
+                "select c.conname from pg_constraint c join pg_namespace n on n.oid = c.connamespace " +
+                        "where n.nspname = current_schema()", String.class));
+
+        List<String> missing = REQUIRED_INDEXES.stream()
+                .filter(index -> !indexes.contains(index[0]))
+                .map(index -> String.format("index %s (%s)", index[0], index[1]))
+                .collect(Collectors.toList());
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(LEAD_INDEX_EXISTS, Boolean.class))) {
+            missing.add("unique index on teams (team_lead_id) (team search by lead id)");
+        }
+        REQUIRED_CONSTRAINTS.stream()
+                .filter(constraint -> !constraints.contains(constraint))
+                .map(constraint -> "constraint " + constraint)
+                .forEach(missing::add);
+
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Database schema is missing " + String.join(", ", missing)
+                    + ". Run the Flyway migrations before starting the application.");
+        }
+        log.info("Schema verified: {} indexes and {} constraints present",
+                REQUIRED_INDEXES.size() + 1, REQUIRED_CONSTRAINTS.size());
+    }
+}
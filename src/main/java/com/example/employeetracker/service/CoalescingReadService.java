@@ -0,0 +1,75 @@
+package com.example.employeetracker.service;
+
+import com.example.employeetracker.concurrency.SingleFlight;
+import com.example.employeetracker.request.EmployeeFields;
+import com.example.employeetracker.request.TeamFields;
+import com.example.employeetracker.response.EmployeeResponse;
+import com.example.employeetracker.response.TeamResponse;
+import com.example.employeetracker.serviceinterface.EmployeeService;
+import com.example.employeetracker.serviceinterface.TeamService;
+import com.example.employeetracker.tenant.TenantContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Single-flight layer in front of the hot read paths.
+ * <p>
+ * Concurrent identical requests (same id or same search, same selected fields) share one
+ * database load and one mapped response. Coalescing happens outside the service transaction,
+ * so callers that wait for someone else's load don't hold a connection while they do.
+ */
+@Service
+public class CoalescingReadService {
+
+    private final TeamService teamService;
+    private final EmployeeService employeeService;
+
+    private final SingleFlight<TeamByIdKey, TeamResponse> teamById;
+    private final SingleFlight<TeamSearchKey, List<TeamResponse>> teamSearch;
+    private final SingleFlight<EmployeeByIdKey, EmployeeResponse> employeeById;
+    private final SingleFlight<EmployeeSearchKey, List<EmployeeResponse>> employeeSearch;
+
+    public CoalescingReadService(TeamService teamService, EmployeeService employeeService, MeterRegistry meterRegistry) {
+        this.teamService = teamService;
+        this.employeeService = employeeService;
+        this.teamById = new SingleFlight<>("team.byId", meterRegistry);
+        this.teamSearch = new SingleFlight<>("team.search", meterRegistry);
+        this.employeeById = new SingleFlight<>("employee.byId", meterRegistry);
+        this.employeeSearch = new SingleFlight<>("employee.search", meterRegistry);
+    }
+
+    public TeamResponse getTeamById(Long teamId, TeamFields fields) {
+        return teamById.execute(new TeamByIdKey(TenantContext.current(), teamId, fields),
+                () -> teamService.getTeamById(teamId, fields));
+    }
+
+    public List<TeamResponse> searchTeams(String teamName, Long teamLeadId, TeamFields fields) {
+        return teamSearch.execute(new TeamSearchKey(TenantContext.current(), teamName, teamLeadId, fields),
+                () -> teamService.searchTeams(teamName, teamLeadId, fields));
+    }
+
+    public EmployeeResponse getEmployeeById(Long id, EmployeeFields fields) {
+        return employeeById.execute(new EmployeeByIdKey(TenantContext.current(), id, fields),
+                () -> employeeService.getEmployeeById(id, fields));
+    }
+
+    public List<EmployeeResponse> searchEmployees(String personalId, String name, EmployeeFields fields) {
+        return employeeSearch.execute(new EmployeeSearchKey(TenantContext.current(), personalId, name, fields),
+                () -> employeeService.searchEmployees(personalId, name, fields));
+    }
+
+    // the tenant is part of every key, so a caller never gets another tenant's result
+    private record TeamByIdKey(String tenant, Long teamId, TeamFields fields) {
+    }
+
+    private record TeamSearchKey(String tenant, String teamName, Long teamLeadId, TeamFields fields) {
+    }
+
+    private record EmployeeByIdKey(String tenant, Long id, EmployeeFields fields) {
+    }
+
+    private record EmployeeSearchKey(String tenant, String personalId, String name, EmployeeFields fields) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.employeetracker.service;
+
+import com.example.employeetracker.concurrency.GroupCommit;
+import com.example.employeetracker.config.WriteCoalescingProperties;
+import com.example.employeetracker.request.EmployeeRequest;
+import com.example.employeetracker.response.EmployeeResponse;
+import com.example.employeetracker.serviceinterface.EmployeeService;
+import com.example.employeetracker.tenant.TenantContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+/**
+ * Group commit in front of single employee creates, when {@link WriteCoalescingProperties#isEnabled()}.
+ * <p>
+ * Creates of the same tenant that arrive within {@link WriteCoalescingProperties#getMaxWait()} of each other are
+ * written with one {@link EmployeeService#addEmployees} call: one transaction and one commit, and every team is
+ * looked up once. A batch is all or none, so when it fails (a duplicate personal ID, a missing team) its creates
+ * are repeated one by one and every caller gets the result or error of its own create.
+ * Like {@link CoalescingReadService}, this sits outside the service transaction.
+ */
+@Service
+public class CoalescingWriteService {
+
+    private final EmployeeService employeeService;
+    private final GroupCommit<String, EmployeeRequest, EmployeeResponse> employeeCreates;
+
+    public CoalescingWriteService(EmployeeService employeeService, WriteCoalescingProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.employeeService = employeeService;
+        this.employeeCreates = properties.isEnabled()
+                ? new GroupCommit<>("employee.create", properties.getMaxBatchSize(), properties.getMaxWait(),
+                employeeService::addEmployees, employeeService::addEmployee, meterRegistry)
+                : null;
+    }
+
+    public EmployeeResponse addEmployee(EmployeeRequest request) {
+        if (employeeCreates == null) {
+            return employeeService.addEmployee(request);
+        }
+        // the tenant is the group, so a batch never mixes tenants and runs as the tenant of all its callers
+        return employeeCreates.submit(TenantContext.current(), request);
+    }
+}
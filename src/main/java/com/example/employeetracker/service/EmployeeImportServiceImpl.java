@@ -0,0 +1,283 @@
+package com.example.employeetracker.service;
+
+import com.example.employeetracker.config.EmployeeImportProperties;
+import com.example.employeetracker.domain.Team;
+import com.example.employeetracker.invalidation.InvalidationPublisher;
+import com.example.employeetracker.repository.TeamRepository;
+import com.example.employeetracker.request.EmployeeRequest;
+import com.example.employeetracker.response.EmployeeImportResponse;
+import com.example.employeetracker.response.ImportRowErrorResponse;
+import com.example.employeetracker.serviceinterface.EmployeeImportService;
+import com.example.employeetracker.tenant.TenantContext;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.hibernate.cache.spi.access.CollectionDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class EmployeeImportServiceImpl implements EmployeeImportService {
+
+    static final String PERSONAL_ID = "personalId";
+    static final String NAME = "name";
+    static final String TEAM = "team";
+
+    /**
+     * Rows whose personal id already exists are skipped instead of failing the whole batch.
+     * (tenant_id, personal_id) is the only unique key a new row can collide with, so no conflict target is needed
+     */
+    private static final String INSERT_EMPLOYEE = """
+            insert into employees (tenant_id, personal_id, name, team_id, version)
+            values (?, ?, ?, ?, 0)
+            on conflict do nothing
+            """;
+
+    /**
+     * Opens the membership history of an imported employee, the rows bypass {@code MembershipHistoryListener}.
+     * The open-interval check keeps a skipped duplicate from getting a second membership
+     */
+    private static final String OPEN_MEMBERSHIP = """
+            insert into team_membership_history (tenant_id, employee_id, team_id, role, valid_from)
+            select e.tenant_id, e.id, e.team_id, 'MEMBER', ?
+            from employees e
+            where e.tenant_id = ? and e.personal_id = ? and e.team_id is not null
+              and not exists (select 1 from team_membership_history h
+                              where h.employee_id = e.id and h.role = 'MEMBER' and h.valid_to is null)
+            """;
+
+    private static final CSVFormat FORMAT = CSVFormat.DEFAULT.builder()
+            .setHeader()
+            .setSkipHeaderRecord(true)
+            .setIgnoreHeaderCase(true)
+            .setIgnoreEmptyLines(true)
+            .setTrim(true)
+            .build();
+
+    private final TeamRepository teamRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final EntityManagerFactory entityManagerFactory;
+    private final EmployeeImportProperties properties;
+    private final ObjectProvider<InvalidationPublisher> invalidationPublisher;
+
+    public EmployeeImportServiceImpl(TeamRepository teamRepository,
+                                     JdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     Validator validator,
+                                     EntityManagerFactory entityManagerFactory,
+                                     EmployeeImportProperties properties,
+                                     ObjectProvider<InvalidationPublisher> invalidationPublisher) {
+        this.teamRepository = teamRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.entityManagerFactory = entityManagerFactory;
+        this.properties = properties;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    /**
+     * Imports employees from a CSV roster with the columns {@code personalId}, {@code name}
+     * and optionally {@code team} (the team's name).
+     * <p>
+     * The file is parsed one row at a time and written in batches of
+     * {@link EmployeeImportProperties#getBatchSize()} rows, each committed on its own,
+     * so memory use doesn't depend on the size of the file.
+     * <ul>
+     *   <li>Rows are validated with the same rules as {@link EmployeeRequest}</li>
+     *   <li>Team names are resolved once per import and remembered for the following rows</li>
+     *   <li>Invalid rows and rows naming an unknown team are rejected</li>
+     *   <li>Rows with a personal ID that already exists are skipped as duplicates</li>
+     * </ul>
+     *
+     * @param csv The roster, including the header row
+     * @return Counts of imported, duplicate and rejected rows, with the first rejected rows listed
+     * @throws IllegalArgumentException If a required column is missing or the file is not valid CSV
+     */
+    @Override
+    public EmployeeImportResponse importEmployees(Reader csv) {
+        ImportProgress progress = new ImportProgress(properties.getMaxReportedErrors());
+        Map<String, Optional<Long>> teamIdsByName = new HashMap<>();
+        List<EmployeeRequest> batch = new ArrayList<>(properties.getBatchSize());
+
+        try (CSVParser parser = FORMAT.parse(csv)) {
+            requireColumns(parser.getHeaderMap().keySet());
+            for (CSVRecord record : parser) {
+                progress.rowsRead++;
+                EmployeeRequest request = toRequest(record, teamIdsByName, progress);
+                if (request == null) {
+                    continue;
+                }
+                batch.add(request);
+                if (batch.size() == properties.getBatchSize()) {
+                    writeBatch(batch, progress);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                writeBatch(batch, progress);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            throw new IllegalArgumentException("Could not read the CSV file after row "
+                    + (progress.rowsRead + 1) + ": " + e.getMessage(), e);
+        }
+
+        return progress.toResponse();
+    }
+
+    private void requireColumns(Set<String> header) {
+        Set<String> columns = header.stream().map(String::toLowerCase).collect(Collectors.toSet());
+        if (!columns.contains(PERSONAL_ID.toLowerCase()) || !columns.contains(NAME)) {
+            throw new IllegalArgumentException("The CSV header must contain the columns "
+                    + PERSONAL_ID + " and " + NAME + " (and optionally " + TEAM + ")");
+        }
+    }
+
+    private EmployeeRequest toRequest(CSVRecord record, Map<String, Optional<Long>> teamIdsByName, ImportProgress progress) {
+        long row = record.getRecordNumber() + 1;
+        Long teamId = null;
+        String teamName = column(record, TEAM);
+        if (teamName != null && !teamName.isEmpty()) {
+            Optional<Long> resolved = teamIdsByName.computeIfAbsent(teamName, teamRepository::findIdByName);
+            if (resolved.isEmpty()) {
+                progress.reject(row, "Team '" + teamName + "' not found");
+                return null;
+            }
+            teamId = resolved.get();
+        }
+
+        EmployeeRequest request = EmployeeRequest.builder()
+                .personalId(column(record, PERSONAL_ID))
+                .name(column(record, NAME))
+                .teamId(teamId)
+                .build();
+        Set<ConstraintViolation<EmployeeRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            progress.reject(row, violations.stream()
+                    .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .collect(Collectors.joining(", ")));
+            return null;
+        }
+        return request;
+    }
+
+    private static String column(CSVRecord record, String name) {
+        return record.isSet(name) ? record.get(name) : null;
+    }
+
+    private void writeBatch(List<EmployeeRequest> batch, ImportProgress progress) {
+        // rows are written past Hibernate, so they need the tenant set explicitly
+        String tenant = TenantContext.current();
+        List<Long> teamIds = batch.stream()
+                .map(EmployeeRequest::teamId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        int[][] counts = transactionTemplate.execute(status -> {
+            int[][] inserted = jdbcTemplate.batchUpdate(
+                    INSERT_EMPLOYEE, batch, batch.size(), (statement, request) -> {
+                        statement.setString(1, tenant);
+                        statement.setString(2, request.personalId());
+                        statement.setString(3, request.name());
+                        if (request.teamId() != null) {
+                            statement.setLong(4, request.teamId());
+                        } else {
+                            statement.setNull(4, Types.BIGINT);
+                        }
+                    });
+            openMemberships(tenant, batch);
+            // other nodes learn about the rows with the commit
+            invalidationPublisher.ifAvailable(publisher -> publisher.publishTeamMembers(tenant, teamIds));
+            return inserted;
+        });
+
+        for (int[] chunk : Objects.requireNonNull(counts)) {
+            for (int count : chunk) {
+                if (count == 0) {
+                    progress.duplicates++;
+                } else if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    progress.imported++;
+                }
+            }
+        }
+
+        // rows were written past Hibernate, so cached member lists of these teams are stale now.
+        // Cache keys carry the tenant, which Cache.evictCollectionData(role, id) would leave out
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        CollectionPersister members = sessionFactory.getMappingMetamodel()
+                .getCollectionDescriptor(Team.class.getName() + ".employees");
+        CollectionDataAccess cache = members.getCacheAccessStrategy();
+        teamIds.forEach(teamId -> cache.evict(cache.generateCacheKey(teamId, members, sessionFactory, tenant)));
+    }
+
+    private void openMemberships(String tenant, List<EmployeeRequest> batch) {
+        List<EmployeeRequest> assigned = batch.stream().filter(request -> request.teamId() != null).toList();
+        if (assigned.isEmpty()) {
+            return;
+        }
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        jdbcTemplate.batchUpdate(OPEN_MEMBERSHIP, assigned, assigned.size(), (statement, request) -> {
+            statement.setObject(1, now);
+            statement.setString(2, tenant);
+            statement.setString(3, request.personalId());
+        });
+    }
+
+    private static final class ImportProgress {
+        private final int maxReportedErrors;
+        private final List<ImportRowErrorResponse> errors = new ArrayList<>();
+        private long rowsRead;
+        private long imported;
+        private long duplicates;
+        private long rejected;
+
+        private ImportProgress(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void reject(long row, String message) {
+            rejected++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportRowErrorResponse(row, message));
+            }
+        }
+
+        private EmployeeImportResponse toResponse() {
+            return EmployeeImportResponse.builder()
+                    .rowsRead(rowsRead)
+                    .imported(imported)
+                    .duplicates(duplicates)
+                    .rejected(rejected)
+                    .errors(errors)
+                    .build();
+        }
+    }
+}
@@ -1,30 +1,59 @@
 package com.example.employeetracker.service;
 
+import com.example.employeetracker.concurrency.RetryOnConflict;
+import com.example.employeetracker.config.EmployeeBatchProperties;
 import com.example.employeetracker.domain.Employee;
+import com.example.employeetracker.request.EmployeeFields;
 import com.example.employeetracker.request.EmployeeUpdateRequest;
 import com.example.employeetracker.specifications.EmployeeSpecification;
 import com.example.employeetracker.domain.Team;
+import com.example.employeetracker.exception.BatchRejectedException;
 import com.example.employeetracker.exception.ResourceNotFoundException;
 import com.example.employeetracker.mapper.EmployeeMapper;
 import com.example.employeetracker.repository.EmployeeRepository;
+import com.example.employeetracker.repository.PersonalIdProbeRepository;
 import com.example.employeetracker.repository.TeamRepository;
 import com.example.employeetracker.request.EmployeeRequest;
+import com.example.employeetracker.response.BatchRowErrorResponse;
 import com.example.employeetracker.response.EmployeeResponse;
+import com.example.employeetracker.response.MultiGetResponse;
 import com.example.employeetracker.serviceinterface.EmployeeService;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
+@Observed(name = "employee.service")
 @RequiredArgsConstructor
 public class EmployeeServiceImpl implements EmployeeService {
 
     private final EmployeeRepository employeeRepository;
     private final TeamRepository teamRepository;
+    private final MultiGetLoader multiGetLoader;
+    private final PersonalIdProbeRepository personalIdProbeRepository;
+    private final EmployeeBatchProperties batchProperties;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * How many streamed rows may pile up in the persistence context before it is cleared
+     */
+    private static final int STREAM_CLEAR_INTERVAL = 500;
 
     /**
      * Adds a new employee.
@@ -34,6 +63,7 @@ public class EmployeeServiceImpl implements EmployeeService {
      * @return A response with the employee data
      */
     @Override
+    @Transactional
     public EmployeeResponse addEmployee(EmployeeRequest request) {
         Employee employee = new Employee();
         employee.setPersonalId(request.personalId());
@@ -48,16 +78,34 @@ public class EmployeeServiceImpl implements EmployeeService {
         return EmployeeMapper.toResponse(employeeRepository.save(employee));
     }
 
+    /**
+     * Adds a batch of employees, all or none.
+     * <p>
+     * Personal IDs are checked before anything is inserted, so a batch that would hit the unique key
+     * is rejected with every offending row listed instead of failing halfway through the insert.
+     * Each team is looked up once, however many of the new employees join it.
+     *
+     * @param requests The new employees' details
+     * @return Responses in request order
+     * @throws BatchRejectedException If a personal ID repeats within the batch or already exists
+     */
     @Override
+    @Transactional
     public List<EmployeeResponse> addEmployees(List<EmployeeRequest> requests) {
+        List<BatchRowErrorResponse> rejected = findDuplicatePersonalIds(requests);
+        if (!rejected.isEmpty()) {
+            throw new BatchRejectedException(rejected);
+        }
+
         List<Employee> employees = new ArrayList<>();
+        Map<Long, Team> teams = new HashMap<>();
         for (EmployeeRequest e :  requests){
             Employee employee = new Employee();
             employee.setPersonalId(e.personalId());
             employee.setName(e.name());
 
             if (e.teamId() != null) {
-                Team team = findTeamById(e.teamId());
+                Team team = teams.computeIfAbsent(e.teamId(), this::findTeamById);
                 employee.setTeam(team);
                 team.getEmployees().add(employee);
             }
@@ -71,6 +119,41 @@ public class EmployeeServiceImpl implements EmployeeService {
         return EmployeeMapper.toResponses(savedEmployees);
     }
 
+    /**
+     * Rows whose personal ID repeats an earlier row of the batch or an existing employee.
+     * All IDs are checked against the database with one query per
+     * {@link EmployeeBatchProperties#getProbeChunkSize()} IDs.
+     * A concurrent insert of the same ID can still slip in before the batch and fail it on the unique key.
+     *
+     * @param requests The batch in request order
+     * @return The offending rows in request order, empty if the batch is clean
+     */
+    private List<BatchRowErrorResponse> findDuplicatePersonalIds(List<EmployeeRequest> requests) {
+        Map<String, Integer> firstRow = new HashMap<>();
+        List<BatchRowErrorResponse> rejected = new ArrayList<>();
+        for (int index = 0; index < requests.size(); index++) {
+            String personalId = requests.get(index).personalId();
+            Integer first = firstRow.putIfAbsent(personalId, index);
+            if (first != null) {
+                rejected.add(new BatchRowErrorResponse(index, personalId, "Personal ID repeats row " + first));
+            }
+        }
+
+        List<String> personalIds = List.copyOf(firstRow.keySet());
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < personalIds.size(); from += batchProperties.getProbeChunkSize()) {
+            existing.addAll(personalIdProbeRepository.findExisting(
+                    personalIds.subList(from, Math.min(from + batchProperties.getProbeChunkSize(), personalIds.size()))));
+        }
+        for (String personalId : existing) {
+            int index = firstRow.get(personalId);
+            rejected.add(new BatchRowErrorResponse(index, personalId, "Personal ID already exists"));
+        }
+
+        rejected.sort(Comparator.comparingInt(BatchRowErrorResponse::index));
+        return rejected;
+    }
+
     /**
      * Updates the details of an existing employee.
      * <p>
@@ -81,11 +164,13 @@ public class EmployeeServiceImpl implements EmployeeService {
      *   <li>3) Updates the employee's team assignment, if a valid {@code teamId} is provided
      *       <ul>
      *           <li>If the employee is already assigned to a different team, they are removed from the old team.</li>
+     *           <li>If they led the old team, that team is left without a lead</li>
      *           <li>The employee is then added to the new team</li>
      *       </ul>
      *   </li>
      * </ul>
      * Finally, the updated employee is saved, and a response object is returned.
+     * A concurrent change to the same employee or team is retried on a fresh copy.
      * </p>
      *
      * @param id      The ID of the employee to update.
@@ -94,6 +179,8 @@ public class EmployeeServiceImpl implements EmployeeService {
      * @throws ResourceNotFoundException If the employee or the new team (if specified) does not exist
      */
     @Override
+    @Transactional
+    @RetryOnConflict
     public EmployeeResponse updateEmployee(Long id, EmployeeUpdateRequest request) {
         Employee employee = findEmployeeById(id);
 
@@ -107,6 +194,7 @@ public class EmployeeServiceImpl implements EmployeeService {
 
         if (request.teamId() != null) {
             Team newTeam = findTeamById(request.teamId());
+            TeamLeads.releaseLeadOnLeave(employee, newTeam);
             employee.setTeam(newTeam);
         }
 
@@ -114,16 +202,26 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
 
     /**
-     * Gets a list of all employees
+     * Streams all employees to the given consumer one by one, straight from a database cursor.
+     * <p>
+     * Nothing is collected into a list, and the persistence context is cleared periodically,
+     * so heap usage stays flat no matter how large the table gets
      *
-     * @return A list of EmployeeResponse
+     * @param fields   Which fields to map for each employee
+     * @param consumer Receives every employee as soon as it is mapped
      */
     @Override
-    public List<EmployeeResponse> getAllEmployees() {
-        List<Employee> employees = employeeRepository.findAll();
-        return employees.stream()
-                .map(EmployeeMapper::toResponse)
-                .toList();
+    @Transactional(readOnly = true)
+    public void streamAllEmployees(EmployeeFields fields, Consumer<EmployeeResponse> consumer) {
+        try (Stream<Employee> employees = employeeRepository.streamAll()) {
+            int[] streamed = {0};
+            employees.forEach(employee -> {
+                consumer.accept(EmployeeMapper.toResponse(employee, fields));
+                if (++streamed[0] % STREAM_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            });
+        }
     }
 
     @Override
@@ -132,8 +230,31 @@ public class EmployeeServiceImpl implements EmployeeService {
         return EmployeeMapper.toResponse(employee);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public EmployeeResponse getEmployeeById(Long id, EmployeeFields fields) {
+        Employee employee = findEmployeeById(id);
+        return EmployeeMapper.toResponse(employee, fields);
+    }
+
+    /**
+     * Fetches several employees at once, for clients that would otherwise call
+     * {@link #getEmployeeById(Long, EmployeeFields)} once per id
+     *
+     * @param ids    The requested IDs, in the order the caller wants them back
+     * @param fields Which fields the caller wants back
+     * @return One entry per requested ID, in request order, marked as not found when the employee doesn't exist
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<MultiGetResponse<EmployeeResponse>> getEmployeesByIds(List<Long> ids, EmployeeFields fields) {
+        return multiGetLoader.load(Employee.class, ids, Employee::getId,
+                employee -> EmployeeMapper.toResponse(employee, fields));
+    }
+
     @Override
     @Transactional
+    @RetryOnConflict
     public void deleteEmployee(Long id) {
         Employee employee = findEmployeeById(id);
         if (employee.getTeam() != null) {
@@ -154,6 +275,14 @@ public class EmployeeServiceImpl implements EmployeeService {
         return employeeRepository.findAll(specification);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeResponse> searchEmployees(String personalId, String name, EmployeeFields fields) {
+        return searchEmployees(personalId, name).stream()
+                .map(employee -> EmployeeMapper.toResponse(employee, fields))
+                .toList();
+    }
+
     private Employee findEmployeeById(Long id) {
         return employeeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee", id));
@@ -0,0 +1,68 @@
+package com.example.employeetracker.service;
+
+import com.example.employeetracker.domain.MembershipHistory;
+import com.example.employeetracker.mapper.MembershipHistoryMapper;
+import com.example.employeetracker.repository.MembershipHistoryRepository;
+import com.example.employeetracker.response.MembershipResponse;
+import com.example.employeetracker.serviceinterface.MembershipHistoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class MembershipHistoryServiceImpl implements MembershipHistoryService {
+
+    /**
+     * Upper bound for open-ended timelines, far enough out to include every open interval
+     */
+    private static final Instant END_OF_TIME = Instant.parse("9999-12-31T00:00:00Z");
+
+    private final MembershipHistoryRepository membershipHistoryRepository;
+    private final Clock clock = Clock.systemUTC();
+
+    /**
+     * Who was the lead and who were the members of a team at a given instant.
+     * Deleted teams and employees are still answered for, history is never removed with them.
+     *
+     * @param teamId The team ID
+     * @param at     The instant to look at, now if null
+     * @return The lead's interval (if the team had one) followed by the members' intervals, by employee ID
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<MembershipResponse> getTeamRosterAsOf(Long teamId, Instant at) {
+        List<MembershipHistory> intervals = at != null
+                ? membershipHistoryRepository.findByTeamAsOf(teamId, at)
+                : membershipHistoryRepository.findOpenByTeam(teamId);
+        return intervals.stream()
+                .map(MembershipHistoryMapper::toResponse)
+                .toList();
+    }
+
+    /**
+     * All teams an employee was on or led in a period
+     *
+     * @param employeeId The employee ID
+     * @param from       Start of the period (inclusive), the beginning of history if null
+     * @param to         End of the period (exclusive), open-ended if null
+     * @return Intervals overlapping the period, oldest first
+     * @throws IllegalArgumentException If {@code from} is not before {@code to}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<MembershipResponse> getEmployeeTimeline(Long employeeId, Instant from, Instant to) {
+        Instant start = from != null ? from : Instant.EPOCH;
+        Instant end = to != null ? to : END_OF_TIME;
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        return membershipHistoryRepository.findByEmployeeBetween(employeeId, start, end).stream()
+                .map(MembershipHistoryMapper::toResponse)
+                .toList();
+    }
+}
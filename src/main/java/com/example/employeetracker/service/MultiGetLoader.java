@@ -0,0 +1,113 @@
+package com.example.employeetracker.service;
+
+import com.example.employeetracker.config.MultiGetProperties;
+import com.example.employeetracker.response.MultiGetResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Loads many entities by id in as few round trips as possible.
+ * <p>
+ * Ids already in the persistence context or the second-level cache are served from there,
+ * the rest are fetched in chunks of {@link MultiGetProperties#getChunkSize()} ids per query.
+ * Must be called inside a transaction when the mapper touches lazy associations.
+ */
+@Component
+@RequiredArgsConstructor
+public class MultiGetLoader {
+
+    private final MultiGetProperties properties;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Loads the entities with the given ids and maps them
+     *
+     * @param type   The entity class
+     * @param ids    The requested ids, may contain duplicates
+     * @param getId  Reads the id of a loaded entity
+     * @param mapper Maps a loaded entity to its response
+     * @return One entry per requested id, in request order, with not-found entries for missing ids
+     * @throws IllegalArgumentException If no ids, an empty id or more than the allowed number of ids are requested
+     */
+    public <E, R> List<MultiGetResponse<R>> load(Class<E> type, List<Long> ids,
+                                                 Function<E, Long> getId,
+                                                 Function<E, R> mapper) {
+        return load(type, ids, getId, entities -> {
+        }, mapper);
+    }
+
+    /**
+     * Loads the entities with the given ids, prepares them all at once and maps them
+     *
+     * @param type    The entity class
+     * @param ids     The requested ids, may contain duplicates
+     * @param getId   Reads the id of a loaded entity
+     * @param prepare Runs on all loaded entities before the first is mapped, e.g. to fetch an association for all
+     *                of them with one query instead of one per entity
+     * @param mapper  Maps a loaded entity to its response
+     * @return One entry per requested id, in request order, with not-found entries for missing ids
+     * @throws IllegalArgumentException If no ids, an empty id or more than the allowed number of ids are requested
+     */
+    public <E, R> List<MultiGetResponse<R>> load(Class<E> type, List<Long> ids,
+                                                 Function<E, Long> getId,
+                                                 Consumer<List<E>> prepare,
+                                                 Function<E, R> mapper) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one id is required");
+        }
+        if (ids.size() > properties.getMaxIds()) {
+            throw new IllegalArgumentException("At most " + properties.getMaxIds() + " ids can be requested at once");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Ids must not be empty");
+        }
+
+        List<E> entities = loadAll(type, ids);
+        prepare.accept(entities);
+        Map<Long, R> byId = new HashMap<>();
+        for (E entity : entities) {
+            byId.put(getId.apply(entity), mapper.apply(entity));
+        }
+        return ids.stream()
+                .map(id -> MultiGetResponse.<R>builder()
+                        .id(id)
+                        .found(byId.containsKey(id))
+                        .item(byId.get(id))
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Loads the entities with the given ids without any request validation
+     *
+     * @param type The entity class
+     * @param ids  The ids to load, may contain duplicates
+     * @return The entities that exist, in no particular order
+     */
+    public <E> List<E> loadAll(Class<E> type, Collection<Long> ids) {
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(type)
+                .with(CacheMode.NORMAL)
+                .enableSessionCheck(true)
+                .withBatchSize(properties.getChunkSize())
+                .multiLoad(List.copyOf(new LinkedHashSet<>(ids)))
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.employeetracker.service;
+
+import com.example.employeetracker.config.GraphQlProperties;
+import com.example.employeetracker.config.MultiGetProperties;
+import com.example.employeetracker.domain.Employee;
+import com.example.employeetracker.domain.Team;
+import com.example.employeetracker.mapper.EmployeeMapper;
+import com.example.employeetracker.repository.EmployeeRepository;
+import com.example.employeetracker.repository.TeamRepository;
+import com.example.employeetracker.response.EmployeeResponse;
+import com.example.employeetracker.response.TeamNodeResponse;
+import com.example.employeetracker.serviceinterface.OrgGraphService;
+import com.example.employeetracker.specifications.EmployeeSpecification;
+import com.example.employeetracker.specifications.TeamSpecification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Reads behind the GraphQL API.
+ * <p>
+ * Root queries load at most {@code first} teams or employees, and a team at most {@code first} members. Everything reachable from them (a team's lead and
+ * members, an employee's team) is loaded per GraphQL request in one batch per field and nesting level,
+ * so the number of statements depends on the shape of the query and not on how many rows it returns.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrgGraphServiceImpl implements OrgGraphService {
+
+    private static final Sort BY_ID = Sort.by("id");
+
+    private final TeamRepository teamRepository;
+    private final EmployeeRepository employeeRepository;
+    private final MultiGetLoader multiGetLoader;
+    private final MultiGetProperties multiGetProperties;
+    private final GraphQlProperties graphQlProperties;
+
+    /**
+     * Finds a team by ID
+     *
+     * @param id The team ID
+     * @return The team, or empty if it does not exist
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<TeamNodeResponse> getTeam(Long id) {
+        return teamRepository.findById(id).map(OrgGraphServiceImpl::toNode);
+    }
+
+    /**
+     * Searches teams with the same criteria as {@link TeamServiceImpl#searchTeams(String, Long)}
+     *
+     * @param teamName   Text to look for in the team's name (case-insensitive)
+     * @param teamLeadId If not null, only teams led by this ID
+     * @param first      How many teams to return at most
+     * @return The first matching teams by ID, without loading their leads or members
+     * @throws IllegalArgumentException If {@code first} is not between 1 and {@link GraphQlProperties#getMaxFirst()}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TeamNodeResponse> searchTeams(String teamName, Long teamLeadId, int first) {
+        checkFirst(first, graphQlProperties.getMaxFirst());
+        return teamRepository.findBy(TeamSpecification.filterTeams(teamName, teamLeadId),
+                        query -> query.sortBy(BY_ID).limit(first).all()).stream()
+                .map(OrgGraphServiceImpl::toNode)
+                .toList();
+    }
+
+    /**
+     * Finds an employee by ID
+     *
+     * @param id The employee ID
+     * @return The employee, or empty if it does not exist
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<EmployeeResponse> getEmployee(Long id) {
+        return employeeRepository.findById(id).map(EmployeeMapper::toResponse);
+    }
+
+    /**
+     * Searches employees with the same criteria as {@link EmployeeServiceImpl#searchEmployees(String, String)}
+     *
+     * @param personalId Optional personal ID pattern
+     * @param name       Optional name pattern
+     * @param first      How many employees to return at most
+     * @return The first matching employees by ID
+     * @throws IllegalArgumentException If {@code first} is not between 1 and {@link GraphQlProperties#getMaxFirst()}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeResponse> searchEmployees(String personalId, String name, int first) {
+        checkFirst(first, graphQlProperties.getMaxFirst());
+        return employeeRepository.findBy(EmployeeSpecification.filterEmployee(personalId, name),
+                        query -> query.sortBy(BY_ID).limit(first).all()).stream()
+                .map(EmployeeMapper::toResponse)
+                .toList();
+    }
+
+    private static void checkFirst(int first, int max) {
+        if (first < 1 || first > max) {
+            throw new IllegalArgumentException("first must be between 1 and " + max);
+        }
+    }
+
+    /**
+     * Loads many teams at once, cached teams come from the second-level cache
+     *
+     * @param ids The team IDs
+     * @return The existing teams by ID
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, TeamNodeResponse> getTeamsByIds(Collection<Long> ids) {
+        return multiGetLoader.loadAll(Team.class, ids).stream()
+                .collect(Collectors.toMap(Team::getId, OrgGraphServiceImpl::toNode));
+    }
+
+    /**
+     * Loads many employees at once, cached employees come from the second-level cache
+     *
+     * @param ids The employee IDs
+     * @return The existing employees by ID
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, EmployeeResponse> getEmployeesByIds(Collection<Long> ids) {
+        return multiGetLoader.loadAll(Employee.class, ids).stream()
+                .collect(Collectors.toMap(Employee::getId, EmployeeMapper::toResponse));
+    }
+
+    /**
+     * Loads the first members of many teams with one query per {@link MultiGetProperties#getChunkSize()} teams
+     *
+     * @param teamIds The team IDs
+     * @param first   How many members to return per team at most
+     * @return Members by team ID ordered by employee ID, teams without members are left out
+     * @throws IllegalArgumentException If {@code first} is not between 1 and {@link GraphQlProperties#getMaxMembers()}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<EmployeeResponse>> getMembersByTeamIds(Collection<Long> teamIds, int first) {
+        checkFirst(first, graphQlProperties.getMaxMembers());
+        List<Long> ids = List.copyOf(teamIds);
+        Map<Long, List<EmployeeResponse>> members = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += multiGetProperties.getChunkSize()) {
+            List<Long> chunk = ids.subList(from, Math.min(from + multiGetProperties.getChunkSize(), ids.size()));
+            for (EmployeeResponse employee : employeeRepository.findResponsesByTeamIds(chunk, first)) {
+                members.computeIfAbsent(employee.teamId(), teamId -> new ArrayList<>()).add(employee);
+            }
+        }
+        return members;
+    }
+
+    private static TeamNodeResponse toNode(Team team) {
+        // reading the id of the lazy lead does not load it
+        return new TeamNodeResponse(
+                team.getId(),
+                team.getName(),
+                team.getTeamLead() == null ? null : team.getTeamLead().getId()
+        );
+    }
+}
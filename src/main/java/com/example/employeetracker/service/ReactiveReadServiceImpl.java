@@ -0,0 +1,85 @@
+package com.example.employeetracker.service;
+
+import com.example.employeetracker.repository.ReactiveReadRepository;
+import com.example.employeetracker.request.EmployeeFields;
+import com.example.employeetracker.request.TeamFields;
+import com.example.employeetracker.response.EmployeeResponse;
+import com.example.employeetracker.response.TeamResponse;
+import com.example.employeetracker.serviceinterface.ReactiveReadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ * Non-blocking counterparts of the list and search reads of {@link EmployeeServiceImpl} and {@link TeamServiceImpl}.
+ * <p>
+ * Results are produced as the client consumes them, and no request thread waits on the database.
+ * Reads bypass the JPA persistence context and second-level cache, so they always see committed data.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "employee-tracker.reactive", name = "enabled", havingValue = "true")
+public class ReactiveReadServiceImpl implements ReactiveReadService {
+
+    private final ReactiveReadRepository reactiveReadRepository;
+
+    /**
+     * Streams all employees ordered by ID
+     *
+     * @param fields Which fields the caller wants back
+     * @return The employees, read from the database as the subscriber requests them
+     */
+    @Override
+    public Flux<EmployeeResponse> getAllEmployees(EmployeeFields fields) {
+        return reactiveReadRepository.findAllEmployees()
+                .map(employee -> select(employee, fields));
+    }
+
+    /**
+     * Streams the employees matching the same criteria as {@link EmployeeServiceImpl#searchEmployees(String, String)}
+     *
+     * @param personalId Optional personal ID pattern
+     * @param name       Optional name pattern
+     * @param fields     Which fields the caller wants back
+     * @return The matching employees ordered by ID
+     */
+    @Override
+    public Flux<EmployeeResponse> searchEmployees(String personalId, String name, EmployeeFields fields) {
+        return reactiveReadRepository.searchEmployees(personalId, name)
+                .map(employee -> select(employee, fields));
+    }
+
+    /**
+     * Streams all teams ordered by ID, joining the lead and members only when selected
+     *
+     * @param fields Which fields the caller wants back
+     * @return The teams, read from the database as the subscriber requests them
+     */
+    @Override
+    public Flux<TeamResponse> getAllTeams(TeamFields fields) {
+        return reactiveReadRepository.findAllTeams(fields);
+    }
+
+    /**
+     * Streams the teams matching the same criteria as {@link TeamServiceImpl#searchTeams(String, Long)}
+     *
+     * @param teamName   Text to look for in the team's name (case-insensitive)
+     * @param teamLeadId If not null, only teams led by this ID
+     * @param fields     Which fields the caller wants back
+     * @return The matching teams ordered by ID
+     */
+    @Override
+    public Flux<TeamResponse> searchTeams(String teamName, Long teamLeadId, TeamFields fields) {
+        return reactiveReadRepository.searchTeams(teamName, teamLeadId, fields);
+    }
+
+    private static EmployeeResponse select(EmployeeResponse employee, EmployeeFields fields) {
+        return new EmployeeResponse(
+                fields.id() ? employee.id() : null,
+                fields.personalId() ? employee.personalId() : null,
+                fields.name() ? employee.name() : null,
+                fields.teamId() ? employee.teamId() : null
+        );
+    }
+}
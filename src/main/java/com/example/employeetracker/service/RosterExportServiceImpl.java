@@ -0,0 +1,52 @@
+package com.example.employeetracker.service;
+
+import com.example.employeetracker.exception.ResourceNotFoundException;
+import com.example.employeetracker.repository.RosterExportRepository;
+import com.example.employeetracker.repository.TeamRepository;
+import com.example.employeetracker.response.RosterRowResponse;
+import com.example.employeetracker.serviceinterface.RosterExportService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Consumer;
+
+@Service
+public class RosterExportServiceImpl implements RosterExportService {
+
+    private final RosterExportRepository rosterExportRepository;
+    private final TeamRepository teamRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public RosterExportServiceImpl(RosterExportRepository rosterExportRepository,
+                                   TeamRepository teamRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.rosterExportRepository = rosterExportRepository;
+        this.teamRepository = teamRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Checks the team right away and returns the export, which streams employee-to-team assignments to the consumer
+     * it is given, one row at a time from a database cursor. Neither entities nor {@code Team.employees} collections
+     * are loaded, so memory use is constant. A streamed response can still be rejected before it has started.
+     *
+     * @param teamId If not null, only the members of this team are exported
+     * @return Streams every row, ordered by employee ID, to the consumer it receives
+     * @throws ResourceNotFoundException If the team does not exist
+     */
+    @Override
+    public Consumer<Consumer<RosterRowResponse>> openRoster(Long teamId) {
+        if (teamId != null && !teamRepository.existsById(teamId)) {
+            throw new ResourceNotFoundException("Team", teamId);
+        }
+        return consumer -> readOnlyTransaction.executeWithoutResult(status -> {
+            if (teamId == null) {
+                rosterExportRepository.streamRoster(consumer);
+            } else {
+                rosterExportRepository.streamTeamRoster(teamId, consumer);
+            }
+        });
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.employeetracker.service;
+
+import com.example.employeetracker.domain.Employee;
+import com.example.employeetracker.domain.Team;
+
+import java.util.Objects;
+
+/**
+ * Team lead rules shared by the employee and team services
+ */
+final class TeamLeads {
+
+    private TeamLeads() {
+    }
+
+    /**
+     * A lead must be a member of the team they lead, so leaving the team also gives up the lead role
+     */
+    static void releaseLeadOnLeave(Employee employee, Team newTeam) {
+        Team oldTeam = employee.getTeam();
+        if (oldTeam != null && !Objects.equals(oldTeam.getId(), newTeam.getId())
+                && oldTeam.getTeamLead() != null && oldTeam.getTeamLead().getId().equals(employee.getId())) {
+            oldTeam.setTeamLead(null);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.employeetracker.service;
 
+import com.example.employeetracker.concurrency.RetryOnConflict;
 import com.example.employeetracker.domain.Employee;
 import com.example.employeetracker.domain.Team;
 import com.example.employeetracker.exception.ResourceNotFoundException;
@@ -7,23 +8,46 @@ import com.example.employeetracker.mapper.TeamMapper;
 import com.example.employeetracker.repository.EmployeeRepository;
 import com.example.employeetracker.repository.TeamRepository;
 import com.example.employeetracker.request.AddEmployeesRequest;
+import com.example.employeetracker.request.TeamFields;
 import com.example.employeetracker.request.TeamRequest;
+import com.example.employeetracker.response.MultiGetResponse;
 import com.example.employeetracker.response.TeamResponse;
 import com.example.employeetracker.serviceinterface.TeamService;
 import com.example.employeetracker.specifications.TeamSpecification;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Service
+@Observed(name = "team.service")
 @RequiredArgsConstructor
 public class TeamServiceImpl implements TeamService {
     private final TeamRepository teamRepository;
     private final EmployeeRepository employeeRepository;
+    private final MultiGetLoader multiGetLoader;
+    private final ObservationRegistry observationRegistry;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * How many streamed teams (with their employees) may pile up in the persistence context before it is cleared
+     */
+    private static final int STREAM_CLEAR_INTERVAL = 50;
 
     /**
      * Creates a new team, optionally assigning employees and a team lead.
@@ -45,6 +69,7 @@ public class TeamServiceImpl implements TeamService {
      */
     @Override
     @Transactional
+    @RetryOnConflict
     public TeamResponse createTeam(TeamRequest request) {
 
         Team team = new Team();
@@ -75,55 +100,148 @@ public class TeamServiceImpl implements TeamService {
      * @return A response with the team's details
      */
     @Override
+    @Transactional(readOnly = true)
     public TeamResponse getTeamById(Long teamId) {
         Team team = findTeamById(teamId);
         return TeamMapper.toResponse(team);
     }
 
+    /**
+     * Fetches the team with the given ID, mapping only the selected fields.
+     * Unselected lazy associations (lead, employees) are never loaded.
+     *
+     * @param teamId The ID of the team
+     * @param fields Which fields the caller wants back
+     * @return A response with the selected team details
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TeamResponse getTeamById(Long teamId, TeamFields fields) {
+        Team team = findTeamById(teamId);
+        return TeamMapper.toResponse(team, fields);
+    }
 
     /**
-     * Fetches all teams from the database
+     * Fetches several teams at once. Teams in the second-level cache are not queried again,
+     * the rest are loaded with one query per chunk of IDs. Selected members are loaded for all teams with one query.
      *
-     * @return A list of all teams wrapped in a response DTO
+     * @param teamIds The requested IDs, in the order the caller wants them back
+     * @param fields  Which fields the caller wants back
+     * @return One entry per requested ID, in request order, marked as not found when the team doesn't exist
      */
     @Override
-    public List<TeamResponse> getAllTeams() {
-        List<Team> teams = teamRepository.findAll();
-        return teams.stream()
-                .map(TeamMapper::toResponse)
+    @Transactional(readOnly = true)
+    public List<MultiGetResponse<TeamResponse>> getTeamsByIds(List<Long> teamIds, TeamFields fields) {
+        return multiGetLoader.load(Team.class, teamIds, Team::getId,
+                teams -> {
+                    if (fields.employees()) {
+                        fetchEmployees(teams);
+                    }
+                },
+                team -> TeamMapper.toResponse(team, fields));
+    }
+
+
+    /**
+     * Streams all teams to the given consumer one by one, straight from a database cursor.
+     * <p>
+     * No list of all teams is ever built: teams are read in chunks of {@link #STREAM_CLEAR_INTERVAL}, mapped,
+     * handed over and then dropped from the persistence context
+     *
+     * @param fields   Which fields to map; the lead is joined only when selected, the employees of a chunk
+     *                 are loaded with one query only when selected
+     * @param consumer Receives every team as soon as it is mapped
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllTeams(TeamFields fields, Consumer<TeamResponse> consumer) {
+        try (Stream<Team> teams = fields.teamLead() ? teamRepository.streamAllWithLead() : teamRepository.streamAll()) {
+            List<Team> chunk = new ArrayList<>(STREAM_CLEAR_INTERVAL);
+            teams.forEach(team -> {
+                chunk.add(team);
+                if (chunk.size() == STREAM_CLEAR_INTERVAL) {
+                    streamChunk(chunk, fields, consumer);
+                    entityManager.clear();
+                }
+            });
+            streamChunk(chunk, fields, consumer);
+        }
+    }
+
+    /**
+     * Maps a chunk of streamed teams, with the employees of the whole chunk loaded by a single query
+     */
+    private void streamChunk(List<Team> chunk, TeamFields fields, Consumer<TeamResponse> consumer) {
+        if (fields.employees()) {
+            fetchEmployees(chunk);
+        }
+        chunk.forEach(team -> consumer.accept(TeamMapper.toResponse(team, fields)));
+        chunk.clear();
+    }
+
+    /**
+     * Initializes the employee lists of the given teams that are not loaded yet, with one query
+     */
+    private void fetchEmployees(List<Team> teams) {
+        List<Long> ids = teams.stream()
+                .filter(team -> !Hibernate.isInitialized(team.getEmployees()))
+                .map(Team::getId)
                 .toList();
+        if (!ids.isEmpty()) {
+            teamRepository.findWithEmployeesByIds(ids);
+        }
     }
 
     /**
      * Updates a team's info (like name, employees, or team lead)
+     * <p>
+     * Runs as one versioned read-modify-write; if another request changed the team
+     * or one of the moved employees in the meantime, the whole update is retried
      *
      * @param teamId   The team to update
      * @param updatedTeam  The new data for the team
      * @return The updated team in a response object
      */
     @Override
+    @Transactional
+    @RetryOnConflict
     public TeamResponse updateTeam(Long teamId, TeamRequest updatedTeam) {
-        Team team = findTeamById(teamId);
+        Team team = step("team.update.find", () -> findTeamById(teamId));
 
         if (updatedTeam.teamName() != null && !updatedTeam.teamName().isBlank()) {
             team.setName(updatedTeam.teamName());
         }
 
         if (updatedTeam.employeeIds() != null && !updatedTeam.employeeIds().isEmpty()) {
-            // add employees who are not already part of the team
-            updatedTeam.employeeIds().forEach(employeeId -> {
-                if (team.getEmployees().stream().noneMatch(employee -> employee.getId().equals(employeeId))) {
-                    addEmployeesToTeam(Collections.singletonList(employeeId), team);
+            Observation adding = Observation.createNotStarted("team.update.add-employees", observationRegistry)
+                    .highCardinalityKeyValue("employees.requested", String.valueOf(updatedTeam.employeeIds().size()));
+            adding.observe(() -> {
+                int added = 0;
+                // add employees who are not already part of the team
+                for (Long employeeId : updatedTeam.employeeIds()) {
+                    if (team.getEmployees().stream().noneMatch(employee -> employee.getId().equals(employeeId))) {
+                        addEmployeesToTeam(Collections.singletonList(employeeId), team);
+                        added++;
+                    }
                 }
+                adding.highCardinalityKeyValue("employees.added", String.valueOf(added));
             });
         }
 
         if (updatedTeam.teamLeadId() != null) {
-            internalAssignLead(updatedTeam.teamLeadId(), team);
+            step("team.update.assign-lead", () -> {
+                internalAssignLead(updatedTeam.teamLeadId(), team);
+                return team;
+            });
         }
 
-        Team savedTeam = teamRepository.save(team);
-        return TeamMapper.toResponse(savedTeam);
+        // flushed here rather than at commit, so the statements show up as a step of their own
+        Team savedTeam = step("team.update.flush", () -> {
+            Team saved = teamRepository.save(team);
+            teamRepository.flush();
+            return saved;
+        });
+        return step("team.update.map", () -> TeamMapper.toResponse(savedTeam));
     }
 
     /**
@@ -137,6 +255,7 @@ public class TeamServiceImpl implements TeamService {
      */
     @Override
     @Transactional
+    @RetryOnConflict
     public void deleteTeam(Long teamId) {
         Team team = findTeamById(teamId);
         List<Employee> employees = team.getEmployees();
@@ -151,7 +270,8 @@ public class TeamServiceImpl implements TeamService {
      * <p>
      * After removing them from the team's employee list,
      * we set their {@code team} field to {@code null} so
-     * there's no left behind reference. Finally, we save both the
+     * there's no left behind reference. If they were the lead, the team
+     * is left without one. Finally, we save both the
      * employee and the team, then return the updated team data
      *
      * @param teamId     The team’s ID from which to remove an employee
@@ -159,11 +279,16 @@ public class TeamServiceImpl implements TeamService {
      * @return The updated {@link TeamResponse}
      */
     @Override
+    @Transactional
+    @RetryOnConflict
     public TeamResponse removeEmployeeFromTeam(Long teamId, Long employeeId) {
         Team team = findTeamById(teamId);
         Employee employee = findEmployeeById(employeeId);
 
         if(employee.getTeam() != null && employee.getTeam().getId().equals(teamId)){
+            if (team.getTeamLead() != null && team.getTeamLead().getId().equals(employeeId)) {
+                team.setTeamLead(null);
+            }
             team.getEmployees().remove(employee);
             employee.setTeam(null);
             employeeRepository.save(employee);
@@ -180,11 +305,35 @@ public class TeamServiceImpl implements TeamService {
      */
     @Override
     public List<Team> searchTeams(String teamName, Long teamLeadId){
-        Specification<Team> spec = TeamSpecification.filterTeams(
+        return teamRepository.findAll(searchSpecification(teamName, teamLeadId, TeamFields.ALL));
+    }
+
+    /**
+     * Same as {@link #searchTeams(String, Long)}, but fetch-joins only the
+     * associations that are part of the selected fields
+     *
+     * @param teamName   Text to look for in the team's name (case-insensitive)
+     * @param teamLeadId If not null, we look for teams led by this ID
+     * @param fields     Which fields the caller wants back
+     * @return A list of matching teams, mapped to responses with only the selected fields
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TeamResponse> searchTeams(String teamName, Long teamLeadId, TeamFields fields) {
+        return teamRepository.findAll(searchSpecification(teamName, teamLeadId, fields)).stream()
+                .map(team -> TeamMapper.toResponse(team, fields))
+                .toList();
+    }
+
+    private Specification<Team> searchSpecification(String teamName, Long teamLeadId, TeamFields fields) {
+        return TeamSpecification.filterTeams(
                 teamName,
                 teamLeadId
-        );
-        return teamRepository.findAll(spec);
+        ).and(TeamSpecification.fetchSelected(fields));
+    }
+
+    private <T> T step(String name, Supplier<T> work) {
+        return Observation.createNotStarted(name, observationRegistry).observe(work);
     }
 
     private Team findTeamById(Long id) {
@@ -202,7 +351,8 @@ public class TeamServiceImpl implements TeamService {
      * <p></p>
      *   <ul>
      *     <li>If the team already has a lead, the old lead is replaced with the new one</li>
-     *    <li>If the new lead is part of another team, they are removed from the old team</li>
+     *    <li>If the new lead is part of another team, they are removed from the old team
+     *    (and stop leading it)</li>
      *    <li>The new lead is added to the team's employee list if not already present</li>
      *   </ul>
      *
@@ -210,6 +360,7 @@ public class TeamServiceImpl implements TeamService {
     private void internalAssignLead(Long teamLeadId, Team team) {
         Employee newTeamLead = findEmployeeById(teamLeadId);
 
+        TeamLeads.releaseLeadOnLeave(newTeamLead, team);
         team.setTeamLead(newTeamLead);
         newTeamLead.setTeam(team);
     }
@@ -224,6 +375,7 @@ public class TeamServiceImpl implements TeamService {
         List<Employee> employees = employeeRepository.findAllById(employeeIds);
 
         for (Employee employee : employees) {
+            TeamLeads.releaseLeadOnLeave(employee, team);
             employee.setTeam(team);
             if (!team.getEmployees().contains(employee)) {
                 team.getEmployees().add(employee);
@@ -0,0 +1,9 @@
+package com.example.employeetracker.serviceinterface;
+
+import com.example.employeetracker.response.EmployeeImportResponse;
+
+import java.io.Reader;
+
+public interface EmployeeImportService {
+    EmployeeImportResponse importEmployees(Reader csv);
+}
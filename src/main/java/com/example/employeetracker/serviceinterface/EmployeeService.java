@@ -1,19 +1,25 @@
 package com.example.employeetracker.serviceinterface;
 
 import com.example.employeetracker.domain.Employee;
+import com.example.employeetracker.request.EmployeeFields;
 import com.example.employeetracker.request.EmployeeRequest;
 import com.example.employeetracker.request.EmployeeUpdateRequest;
 import com.example.employeetracker.response.EmployeeResponse;
+import com.example.employeetracker.response.MultiGetResponse;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface EmployeeService {
     EmployeeResponse addEmployee(EmployeeRequest request);
-    List<EmployeeResponse> getAllEmployees();
+    void streamAllEmployees(EmployeeFields fields, Consumer<EmployeeResponse> consumer);
     EmployeeResponse getEmployeeById(Long id);
+    EmployeeResponse getEmployeeById(Long id, EmployeeFields fields);
+    List<MultiGetResponse<EmployeeResponse>> getEmployeesByIds(List<Long> ids, EmployeeFields fields);
     EmployeeResponse updateEmployee(Long id, EmployeeUpdateRequest request);
     void deleteEmployee(Long id);
     List<Employee> searchEmployees(String personalId, String name);
+    List<EmployeeResponse> searchEmployees(String personalId, String name, EmployeeFields fields);
 
     List<EmployeeResponse> addEmployees(List<EmployeeRequest> employeeRequest);
 }
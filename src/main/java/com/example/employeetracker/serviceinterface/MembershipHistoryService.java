@@ -0,0 +1,11 @@
+package com.example.employeetracker.serviceinterface;
+
+import com.example.employeetracker.response.MembershipResponse;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface MembershipHistoryService {
+    List<MembershipResponse> getTeamRosterAsOf(Long teamId, Instant at);
+    List<MembershipResponse> getEmployeeTimeline(Long employeeId, Instant from, Instant to);
+}
@@ -0,0 +1,19 @@
+package com.example.employeetracker.serviceinterface;
+
+import com.example.employeetracker.response.EmployeeResponse;
+import com.example.employeetracker.response.TeamNodeResponse;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface OrgGraphService {
+    Optional<TeamNodeResponse> getTeam(Long id);
+    List<TeamNodeResponse> searchTeams(String teamName, Long teamLeadId, int first);
+    Optional<EmployeeResponse> getEmployee(Long id);
+    List<EmployeeResponse> searchEmployees(String personalId, String name, int first);
+    Map<Long, TeamNodeResponse> getTeamsByIds(Collection<Long> ids);
+    Map<Long, EmployeeResponse> getEmployeesByIds(Collection<Long> ids);
+    Map<Long, List<EmployeeResponse>> getMembersByTeamIds(Collection<Long> teamIds, int first);
+}
@@ -0,0 +1,14 @@
+package com.example.employeetracker.serviceinterface;
+
+import com.example.employeetracker.request.EmployeeFields;
+import com.example.employeetracker.request.TeamFields;
+import com.example.employeetracker.response.EmployeeResponse;
+import com.example.employeetracker.response.TeamResponse;
+import reactor.core.publisher.Flux;
+
+public interface ReactiveReadService {
+    Flux<EmployeeResponse> getAllEmployees(EmployeeFields fields);
+    Flux<EmployeeResponse> searchEmployees(String personalId, String name, EmployeeFields fields);
+    Flux<TeamResponse> getAllTeams(TeamFields fields);
+    Flux<TeamResponse> searchTeams(String teamName, Long teamLeadId, TeamFields fields);
+}
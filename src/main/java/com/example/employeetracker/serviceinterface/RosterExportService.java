@@ -0,0 +1,9 @@
+package com.example.employeetracker.serviceinterface;
+
+import com.example.employeetracker.response.RosterRowResponse;
+
+import java.util.function.Consumer;
+
+public interface RosterExportService {
+    Consumer<Consumer<RosterRowResponse>> openRoster(Long teamId);
+}
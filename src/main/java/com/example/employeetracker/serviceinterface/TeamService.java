@@ -2,21 +2,27 @@ package com.example.employeetracker.serviceinterface;
 
 import com.example.employeetracker.domain.Team;
 import com.example.employeetracker.request.AddEmployeesRequest;
+import com.example.employeetracker.request.TeamFields;
 import com.example.employeetracker.request.TeamRequest;
+import com.example.employeetracker.response.MultiGetResponse;
 import com.example.employeetracker.response.TeamResponse;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface TeamService {
 
     TeamResponse createTeam(TeamRequest request);
     TeamResponse getTeamById(Long teamId);
-    List<TeamResponse> getAllTeams();
+    TeamResponse getTeamById(Long teamId, TeamFields fields);
+    List<MultiGetResponse<TeamResponse>> getTeamsByIds(List<Long> teamIds, TeamFields fields);
+    void streamAllTeams(TeamFields fields, Consumer<TeamResponse> consumer);
     TeamResponse updateTeam(Long teamId, TeamRequest updatedTeam);
     void deleteTeam(Long teamId);
 
     TeamResponse removeEmployeeFromTeam(Long teamId, Long employeeId);
 
     List<Team> searchTeams(String teamName, Long teamLeadId);
+    List<TeamResponse> searchTeams(String teamName, Long teamLeadId, TeamFields fields);
 }
\ No newline at end of file
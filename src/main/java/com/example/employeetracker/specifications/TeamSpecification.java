@@ -1,6 +1,8 @@
 package com.example.employeetracker.specifications;
 
 import com.example.employeetracker.domain.Team;
+import com.example.employeetracker.request.TeamFields;
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -47,4 +49,27 @@ public class TeamSpecification {
             return cb.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    /**
+     * Fetch-joins only the associations the caller selected, so a
+     * {@code fields=id,name} search never touches the lead or the employees.
+     *
+     * @param fields The selected {@link TeamFields}
+     * @return {@link Specification} that adds no predicate, only fetches
+     */
+    public static Specification<Team> fetchSelected(TeamFields fields) {
+        return (root, query, cb) -> {
+            // count queries can not carry fetches
+            if (query.getResultType() != Long.class) {
+                if (fields.teamLead()) {
+                    root.fetch("teamLead", JoinType.LEFT);
+                }
+                if (fields.employees()) {
+                    root.fetch("employees", JoinType.LEFT);
+                    query.distinct(true);
+                }
+            }
+            return null;
+        };
+    }
 }
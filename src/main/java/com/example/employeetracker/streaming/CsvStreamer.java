@@ -0,0 +1,71 @@
+package com.example.employeetracker.streaming;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes large result sets as a CSV file row by row, optionally gzip compressed,
+ * the CSV counterpart of {@link JsonArrayStreamer}
+ */
+@Component
+public class CsvStreamer {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final MediaType APPLICATION_GZIP = new MediaType("application", "gzip");
+
+    /**
+     * Wraps a producer into a streaming CSV download.
+     *
+     * @param fileName The suggested download name, {@code .gz} is appended when compressing
+     * @param gzip     Whether to gzip the file itself (rather than relying on HTTP compression)
+     * @param header   The column names
+     * @param columns  Turns one element into its column values, in header order
+     * @param producer Pushes every element into the consumer it receives
+     * @return A {@code 200 OK} attachment that is written while it is being sent
+     */
+    public <T> ResponseEntity<StreamingResponseBody> stream(String fileName, boolean gzip, List<String> header,
+                                                            Function<T, List<?>> columns,
+                                                            Consumer<Consumer<T>> producer) {
+        CSVFormat format = CSVFormat.DEFAULT.builder()
+                .setHeader(header.toArray(String[]::new))
+                .build();
+        StreamingResponseBody body = outputStream -> {
+            OutputStream target = gzip ? new GZIPOutputStream(outputStream, 64 * 1024) : outputStream;
+            try (CSVPrinter printer = new CSVPrinter(
+                    new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 64 * 1024), format)) {
+                producer.accept(element -> print(printer, columns.apply(element)));
+            }
+        };
+        String downloadName = gzip ? fileName + ".gz" : fileName;
+        return ResponseEntity.ok()
+                .contentType(gzip ? APPLICATION_GZIP : TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(downloadName).build().toString())
+                .body(body);
+    }
+
+    private static void print(CSVPrinter printer, List<?> values) {
+        try {
+            printer.printRecord(values);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.employeetracker.tenant;
+
+import java.util.function.Supplier;
+
+/**
+ * The tenant the current thread works for. Set per request by {@link TenantInterceptor},
+ * read by Hibernate through {@link TenantIdentifierResolver} and by every plain JDBC/R2DBC query.
+ */
+public final class TenantContext {
+
+    /**
+     * Tenant of all data while multi-tenancy is disabled, and of everything that existed before it was enabled
+     */
+    public static final String DEFAULT_TENANT = "default";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    public static String current() {
+        String tenant = CURRENT.get();
+        return tenant != null ? tenant : DEFAULT_TENANT;
+    }
+
+    public static void set(String tenant) {
+        CURRENT.set(tenant);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Runs the action as the given tenant and restores the previous one afterwards
+     */
+    public static <T> T callAs(String tenant, Supplier<T> action) {
+        String previous = CURRENT.get();
+        CURRENT.set(tenant);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    public static void runAs(String tenant, Runnable action) {
+        callAs(tenant, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
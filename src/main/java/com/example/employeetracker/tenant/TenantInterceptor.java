@@ -0,0 +1,63 @@
+package com.example.employeetracker.tenant;
+
+import com.example.employeetracker.client.ApiClient;
+import com.example.employeetracker.client.ApiClients;
+import com.example.employeetracker.exception.TenantAccessDeniedException;
+import com.example.employeetracker.exception.TenantRequiredException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.regex.Pattern;
+
+/**
+ * Binds the tenant of the request's API client to the handling thread, and unbinds it when the thread is done.
+ * <p>
+ * A tenant header alone is never trusted: a request without a known API key is rejected, and so is one whose
+ * tenant header names another tenant than its client's.
+ */
+@Component
+@RequiredArgsConstructor
+public class TenantInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Pattern TENANT_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private final TenantProperties properties;
+    private final ApiClients apiClients;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        ApiClient client = apiClients.authenticate(request).orElseThrow(() ->
+                new TenantAccessDeniedException("A known API key is required to access tenant data"));
+        if (client.tenant() == null) {
+            throw new TenantAccessDeniedException("API client " + client.name() + " is not assigned to a tenant");
+        }
+        String requested = request.getHeader(properties.getHeader());
+        if (requested != null) {
+            if (!TENANT_ID.matcher(requested).matches()) {
+                throw new TenantRequiredException(properties.getHeader());
+            }
+            if (!requested.equals(client.tenant())) {
+                throw new TenantAccessDeniedException(String.format(
+                        "API client %s may not access tenant %s", client.name(), requested));
+            }
+        }
+        TenantContext.set(client.tenant());
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        TenantContext.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        TenantContext.clear();
+    }
+}
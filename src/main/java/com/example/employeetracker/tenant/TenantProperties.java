@@ -0,0 +1,22 @@
+package com.example.employeetracker.tenant;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee-tracker.tenant")
+public class TenantProperties {
+
+    /**
+     * When disabled, every request works on {@link TenantContext#DEFAULT_TENANT}
+     */
+    private boolean enabled = false;
+
+    /**
+     * Header naming the tenant of a request. Optional, the tenant comes from the request's API client,
+     * but when sent it has to match that client's tenant
+     */
+    private String header = "X-Tenant-Id";
+}
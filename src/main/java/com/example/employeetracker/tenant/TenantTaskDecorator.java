@@ -0,0 +1,17 @@
+package com.example.employeetracker.tenant;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Carries the tenant over to the application task executor, which writes streamed responses
+ */
+@Component
+public class TenantTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        String tenant = TenantContext.current();
+        return () -> TenantContext.runAs(tenant, runnable);
+    }
+}
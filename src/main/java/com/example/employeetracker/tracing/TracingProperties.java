@@ -0,0 +1,18 @@
+package com.example.employeetracker.tracing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee-tracker.tracing")
+public class TracingProperties {
+
+    /**
+     * When set, sampled spans are also appended to this file, one JSON object per line, for local analysis
+     */
+    private Path file;
+}
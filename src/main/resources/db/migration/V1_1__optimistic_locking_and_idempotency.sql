@@ -0,0 +1,22 @@
+-- Added to the entities while the schema was still generated by ddl-auto=update, so a baselined database
+-- may already have them
+
+-- optimistic locking of Employee and Team
+alter table teams add column if not exists version bigint not null default 0;
+alter table employees add column if not exists version bigint not null default 0;
+
+-- IdempotencyService claims a key as IN_PROGRESS and stores the response when the create commits
+create table if not exists idempotency_keys
+(
+    idempotency_key varchar(320)                not null primary key,
+    request_hash    varchar(64)                 not null,
+    status          varchar(16)                 not null,
+    response_body   text,
+    created_at      timestamp(6) with time zone not null,
+    expires_at      timestamp(6) with time zone not null
+);
+
+-- a table created before keys were claimed up front only holds completed responses
+alter table idempotency_keys add column if not exists status varchar(16) not null default 'COMPLETED';
+alter table idempotency_keys alter column status drop default;
+alter table idempotency_keys alter column response_body drop not null;
@@ -0,0 +1,24 @@
+-- Schema as it was produced by spring.jpa.hibernate.ddl-auto=update.
+-- Databases created that way are baselined at version 1 and skip this script.
+
+create table if not exists teams
+(
+    id           bigint generated by default as identity primary key,
+    name         varchar(255) not null,
+    team_lead_id bigint,
+    constraint uk_teams_name unique (name),
+    constraint uk_teams_team_lead_id unique (team_lead_id)
+);
+
+create table if not exists employees
+(
+    id          bigint generated by default as identity primary key,
+    personal_id varchar(255) not null,
+    name        varchar(255) not null,
+    team_id     bigint,
+    constraint uk_employees_personal_id unique (personal_id),
+    constraint fk_employees_team foreign key (team_id) references teams (id)
+);
+
+alter table teams
+    add constraint fk_teams_team_lead foreign key (team_lead_id) references employees (id);
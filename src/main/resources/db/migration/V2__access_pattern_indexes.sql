@@ -0,0 +1,36 @@
+-- Team.employees loads and deleteTeam look employees up by team
+create index if not exists idx_employees_team_id on employees (team_id);
+
+-- TeamSpecification.filterTeams by lead id uses the unique index of uk_teams_team_lead_id (V1), or the one
+-- ddl-auto=update generated for it
+
+-- case-insensitive lookups on lower(teams.name): equality/prefix via btree, "%part%" via trigrams
+create index if not exists idx_teams_lower_name on teams (lower(name) text_pattern_ops);
+create extension if not exists pg_trgm;
+create index if not exists idx_teams_lower_name_trgm on teams using gin (lower(name) gin_trgm_ops);
+
+-- IdempotencyService.purge deletes by expiry and by age
+create index if not exists idx_idempotency_keys_expires_at on idempotency_keys (expires_at);
+create index if not exists idx_idempotency_keys_created_at on idempotency_keys (created_at);
+
+-- a team lead has to be a member of the team they lead.
+-- drop leads that violate this from before the rule existed, then let the database enforce it;
+-- deferred, because a lead and their membership are usually changed in the same flush
+update teams t
+set team_lead_id = null
+where t.team_lead_id is not null
+  and not exists (select 1 from employees e where e.id = t.team_lead_id and e.team_id = t.id);
+
+do
+$$
+    begin
+        if not exists (select 1 from pg_constraint where conname = 'uk_employees_id_team') then
+            alter table employees add constraint uk_employees_id_team unique (id, team_id);
+        end if;
+    end
+$$;
+
+alter table teams
+    add constraint fk_teams_lead_member foreign key (team_lead_id, id)
+        references employees (id, team_id)
+        deferrable initially deferred;
@@ -0,0 +1,5 @@
+-- EmployeeSpecification.filterEmployee matches personal_id and name with LIKE against a runtime pattern,
+-- which only a trigram index can serve without scanning the whole table
+create extension if not exists pg_trgm;
+create index if not exists idx_employees_personal_id_trgm on employees using gin (personal_id gin_trgm_ops);
+create index if not exists idx_employees_name_trgm on employees using gin (name gin_trgm_ops);
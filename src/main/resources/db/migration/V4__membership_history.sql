@@ -0,0 +1,51 @@
+-- Who was on (or led) which team and when. Rows are only ever inserted, and valid_to is set once, when the
+-- interval ends. Partitioned by UTC year on valid_from, so old years can be detached or archived on their own.
+-- No foreign keys: history has to outlive deleted employees and teams.
+create table if not exists team_membership_history
+(
+    id          bigserial                   not null,
+    employee_id bigint                      not null,
+    team_id     bigint                      not null,
+    role        varchar(16)                 not null,
+    valid_from  timestamp(6) with time zone not null,
+    valid_to    timestamp(6) with time zone,
+    primary key (id, valid_from)
+) partition by range (valid_from);
+
+do
+$$
+    begin
+        for year in 2024..2031
+            loop
+                execute format('create table if not exists team_membership_history_y%s partition of team_membership_history '
+                                   || 'for values from (%L) to (%L)',
+                               year, make_timestamptz(year, 1, 1, 0, 0, 0, 'UTC'),
+                               make_timestamptz(year + 1, 1, 1, 0, 0, 0, 'UTC'));
+            end loop;
+    end
+$$;
+-- MembershipHistoryPartitions keeps creating the coming years, this only catches what slips past it
+create table if not exists team_membership_history_default partition of team_membership_history default;
+
+-- as-of rosters: one team's intervals that started before the instant, without visiting the heap
+create index if not exists idx_membership_history_team_from
+    on team_membership_history (team_id, valid_from) include (valid_to, employee_id, role);
+-- per-employee timelines
+create index if not exists idx_membership_history_employee_from
+    on team_membership_history (employee_id, valid_from);
+-- closing the open interval of an employee or of a team's lead on every assignment change
+create index if not exists idx_membership_history_open_employee
+    on team_membership_history (employee_id) where valid_to is null;
+create index if not exists idx_membership_history_open_team
+    on team_membership_history (team_id) where valid_to is null;
+
+-- history starts with the assignments as they are now
+insert into team_membership_history (employee_id, team_id, role, valid_from)
+select id, team_id, 'MEMBER', now()
+from employees
+where team_id is not null;
+
+insert into team_membership_history (employee_id, team_id, role, valid_from)
+select team_lead_id, id, 'LEAD', now()
+from teams
+where team_lead_id is not null;
@@ -0,0 +1,54 @@
+-- Every row belongs to a tenant; everything that exists so far belongs to 'default'.
+-- The column has no default afterwards, so a write that forgets the tenant fails instead of landing in 'default'.
+alter table employees add column if not exists tenant_id varchar(64) not null default 'default';
+alter table employees alter column tenant_id drop default;
+alter table teams add column if not exists tenant_id varchar(64) not null default 'default';
+alter table teams alter column tenant_id drop default;
+alter table team_membership_history add column if not exists tenant_id varchar(64) not null default 'default';
+alter table team_membership_history alter column tenant_id drop default;
+
+-- personal ids and team names only have to be unique within a tenant.
+-- Databases baselined from ddl-auto=update carry generated constraint names, so look them up by column
+do
+$$
+    declare
+        single_column_unique record;
+    begin
+        for single_column_unique in
+            select c.conrelid::regclass as table_name, c.conname
+            from pg_constraint c
+                     join pg_attribute a on a.attrelid = c.conrelid and a.attnum = c.conkey[1]
+            where c.contype = 'u'
+              and array_length(c.conkey, 1) = 1
+              and ((c.conrelid = 'employees'::regclass and a.attname = 'personal_id')
+                or (c.conrelid = 'teams'::regclass and a.attname = 'name'))
+            loop
+                execute format('alter table %s drop constraint %I',
+                               single_column_unique.table_name, single_column_unique.conname);
+            end loop;
+    end
+$$;
+alter table employees add constraint uk_employees_tenant_personal_id unique (tenant_id, personal_id);
+alter table teams add constraint uk_teams_tenant_name unique (tenant_id, name);
+
+-- an employee can only join a team of their own tenant
+alter table teams add constraint uk_teams_id_tenant unique (id, tenant_id);
+alter table employees
+    add constraint fk_employees_team_tenant foreign key (team_id, tenant_id) references teams (id, tenant_id);
+
+-- full listings and exports of one tenant read only that tenant's part of the index, in id order
+create index if not exists idx_employees_tenant_id on employees (tenant_id, id);
+create index if not exists idx_teams_tenant_id on teams (tenant_id, id);
+
+-- searches lead with the tenant too; btree_gin lets the trigram indexes start with the plain tenant column
+create extension if not exists btree_gin;
+create index if not exists idx_employees_tenant_personal_id_trgm
+    on employees using gin (tenant_id, personal_id gin_trgm_ops);
+create index if not exists idx_employees_tenant_name_trgm on employees using gin (tenant_id, name gin_trgm_ops);
+create index if not exists idx_teams_tenant_lower_name on teams (tenant_id, lower(name) text_pattern_ops);
+create index if not exists idx_teams_tenant_lower_name_trgm on teams using gin (tenant_id, lower(name) gin_trgm_ops);
+
+drop index if exists idx_employees_personal_id_trgm;
+drop index if exists idx_employees_name_trgm;
+drop index if exists idx_teams_lower_name;
+drop index if exists idx_teams_lower_name_trgm;
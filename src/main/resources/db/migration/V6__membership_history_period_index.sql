@@ -0,0 +1,9 @@
+-- as-of rosters for a past instant: the team's intervals that contain it, found without visiting every interval
+-- the team ever had. tstzrange(valid_from, valid_to) is [from, to) and unbounded while the interval lasts.
+-- btree_gist lets the GiST index start with the plain team_id column.
+create extension if not exists btree_gist;
+create index if not exists idx_membership_history_team_period
+    on team_membership_history using gist (team_id, tstzrange(valid_from, valid_to));
+
+-- superseded: rosters as of now use idx_membership_history_open_team, past ones the index above
+drop index if exists idx_membership_history_team_from;
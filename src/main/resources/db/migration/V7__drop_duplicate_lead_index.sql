@@ -0,0 +1,2 @@
+-- an earlier V2 also created ux_teams_team_lead_id, a second unique index next to uk_teams_team_lead_id's
+drop index if exists ux_teams_team_lead_id;
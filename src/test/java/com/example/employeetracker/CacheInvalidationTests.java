@@ -0,0 +1,112 @@
+package com.example.employeetracker;
+
+import com.example.employeetracker.invalidation.InvalidationMessage;
+import com.example.employeetracker.invalidation.LocalCacheInvalidator;
+import com.example.employeetracker.repository.EmployeeRepository;
+import com.example.employeetracker.repository.TeamRepository;
+import com.example.employeetracker.request.EmployeeRequest;
+import com.example.employeetracker.request.TeamRequest;
+import com.example.employeetracker.serviceinterface.EmployeeService;
+import com.example.employeetracker.serviceinterface.TeamService;
+import com.example.employeetracker.tenant.TenantContext;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Applies invalidation messages as if another node had sent them, after changing rows behind Hibernate's back
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CacheInvalidationTests {
+
+	@Autowired
+	private TeamService teamService;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private TeamRepository teamRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private LocalCacheInvalidator invalidator;
+
+	@BeforeEach
+	void setUp() {
+		invalidator = new LocalCacheInvalidator(entityManagerFactory);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		teamRepository.findAll().forEach(team -> teamService.deleteTeam(team.getId()));
+		employeeRepository.deleteAll();
+	}
+
+	@Test
+	void employeeMessage_evictsCachedEmployee() {
+		Long id = employeeService.addEmployee(EmployeeRequest.builder().personalId("200001").name("John Doe").build()).id();
+		employeeService.getEmployeeById(id);
+		jdbcTemplate.update("update employees set name = 'John Smith' where id = ?", id);
+		assertEquals("John Doe", employeeService.getEmployeeById(id).name());
+
+		invalidator.apply(message(TenantContext.DEFAULT_TENANT, Set.of(id), Set.of(), Set.of()));
+
+		assertEquals("John Smith", employeeService.getEmployeeById(id).name());
+	}
+
+	@Test
+	void messageOfOtherTenant_leavesCacheAlone() {
+		Long id = employeeService.addEmployee(EmployeeRequest.builder().personalId("200002").name("Jane Doe").build()).id();
+		employeeService.getEmployeeById(id);
+		jdbcTemplate.update("update employees set name = 'Jane Smith' where id = ?", id);
+
+		invalidator.apply(message("acme", Set.of(id), Set.of(), Set.of()));
+
+		assertEquals("Jane Doe", employeeService.getEmployeeById(id).name());
+	}
+
+	@Test
+	void teamMembersMessage_evictsCachedMemberList() {
+		Long teamId = teamService.createTeam(TeamRequest.builder().teamName("Invalidated").build()).id();
+		Long id = employeeService.addEmployee(EmployeeRequest.builder().personalId("200003").name("John Doe").build()).id();
+		assertEquals(0, teamService.getTeamById(teamId).employees().size());
+		jdbcTemplate.update("update employees set team_id = ? where id = ?", teamId, id);
+
+		invalidator.apply(message(TenantContext.DEFAULT_TENANT, Set.of(id), Set.of(), Set.of(teamId)));
+
+		assertEquals(1, teamService.getTeamById(teamId).employees().size());
+	}
+
+	@Test
+	void flush_evictsEverything() {
+		Long teamId = teamService.createTeam(TeamRequest.builder().teamName("Flushed").build()).id();
+		teamService.getTeamById(teamId);
+		jdbcTemplate.update("update teams set name = 'Renamed' where id = ?", teamId);
+
+		invalidator.apply(InvalidationMessage.flush("other", 1));
+
+		assertEquals("Renamed", teamService.getTeamById(teamId).name());
+	}
+
+	private static InvalidationMessage message(String tenant, Set<Long> employees, Set<Long> teams, Set<Long> teamMembers) {
+		return new InvalidationMessage("other", 1, tenant, employees, teams, teamMembers, false);
+	}
+}
@@ -0,0 +1,141 @@
+package com.example.employeetracker;
+
+import com.example.employeetracker.domain.Employee;
+import com.example.employeetracker.repository.EmployeeRepository;
+import com.example.employeetracker.repository.TeamRepository;
+import com.example.employeetracker.request.EmployeeRequest;
+import com.example.employeetracker.request.EmployeeUpdateRequest;
+import com.example.employeetracker.request.TeamRequest;
+import com.example.employeetracker.response.EmployeeResponse;
+import com.example.employeetracker.response.TeamResponse;
+import com.example.employeetracker.serviceinterface.EmployeeService;
+import com.example.employeetracker.serviceinterface.TeamService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Hammers the same team and the same employees from many threads at once.
+ * Every employee is renamed and moved into the team concurrently, while the team lead is
+ * reassigned over and over; without versioning, the rename's full-row update would put the
+ * employee back to "no team" and the membership would be lost.
+ * <p>
+ * How many updates run out of retries depends on the machine, so the outcome is checked against the updates
+ * that actually committed.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ConcurrentMembershipStressTests {
+
+	private static final int EMPLOYEES = 40;
+	private static final int THREADS = 16;
+
+	@Autowired
+	private TeamService teamService;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private TeamRepository teamRepository;
+
+	@AfterEach
+	void cleanUp() {
+		teamRepository.findAll().forEach(team -> teamService.deleteTeam(team.getId()));
+		employeeRepository.deleteAll();
+	}
+
+	@Test
+	void concurrentRenamesMovesAndLeadChanges_loseNoUpdates() throws Exception {
+		Long teamId = teamService.createTeam(TeamRequest.builder().teamName("Platform").build()).id();
+		List<Long> employeeIds = IntStream.range(0, EMPLOYEES)
+				.mapToObj(i -> employeeService.addEmployee(EmployeeRequest.builder()
+						.personalId(String.format("%06d", i))
+						.name("Employee " + i)
+						.build()).id())
+				.toList();
+
+		boolean[] renamed = new boolean[EMPLOYEES];
+		boolean[] joined = new boolean[EMPLOYEES];
+		boolean[] ledTeam = new boolean[1];
+		List<Callable<Void>> tasks = new ArrayList<>();
+		for (int i = 0; i < EMPLOYEES; i++) {
+			int index = i;
+			Long employeeId = employeeIds.get(i);
+			String newName = "Renamed " + i;
+			tasks.add(allowingConflict(() -> employeeService.updateEmployee(employeeId,
+					EmployeeUpdateRequest.builder().name(newName).build()), () -> renamed[index] = true));
+			tasks.add(allowingConflict(() -> teamService.updateTeam(teamId,
+					TeamRequest.builder().employeeIds(List.of(employeeId)).build()), () -> joined[index] = true));
+			if (i % 4 == 0) {
+				tasks.add(allowingConflict(() -> teamService.updateTeam(teamId,
+						TeamRequest.builder().teamLeadId(employeeId).build()), () -> {
+					joined[index] = true;
+					ledTeam[0] = true;
+				}));
+			}
+		}
+		Collections.shuffle(tasks);
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			for (Future<Void> future : executor.invokeAll(tasks)) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		// every update that committed must still be visible, whatever ran after it
+		int members = 0;
+		for (int i = 0; i < EMPLOYEES; i++) {
+			EmployeeResponse employee = employeeService.getEmployeeById(employeeIds.get(i));
+			assertEquals(renamed[i] ? "Renamed " + i : "Employee " + i, employee.name());
+			assertEquals(joined[i] ? teamId : null, employee.teamId());
+			members += joined[i] ? 1 : 0;
+		}
+		TeamResponse team = teamService.getTeamById(teamId);
+		assertEquals(members, team.employees().size());
+		assertEquals(ledTeam[0], team.teamLead() != null);
+		if (team.teamLead() != null) {
+			Employee lead = employeeRepository.findById(team.teamLead().id()).orElseThrow();
+			assertEquals(teamId, employeeService.getEmployeeById(lead.getId()).teamId());
+		}
+	}
+
+	/**
+	 * Under enough contention an update can run out of retries; that is an allowed outcome, a lost update is not.
+	 * Runs {@code succeeded} only if the update committed.
+	 */
+	private static Callable<Void> allowingConflict(Callable<?> update, Runnable succeeded) {
+		return () -> {
+			try {
+				update.call();
+			} catch (OptimisticLockingFailureException e) {
+				return null;
+			}
+			synchronized (ConcurrentMembershipStressTests.class) {
+				succeeded.run();
+			}
+			return null;
+		};
+	}
+}
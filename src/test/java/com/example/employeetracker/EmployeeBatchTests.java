@@ -0,0 +1,75 @@
+package com.example.employeetracker;
+
+import com.example.employeetracker.repository.EmployeeRepository;
+import com.example.employeetracker.request.EmployeeRequest;
+import com.example.employeetracker.serviceinterface.EmployeeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "employee-tracker.batch.probe-chunk-size=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EmployeeBatchTests {
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@AfterEach
+	void cleanUp() {
+		employeeRepository.deleteAll();
+	}
+
+	@Test
+	void batchWithDuplicates_isRejectedWithOffendingRows() throws Exception {
+		employeeService.addEmployee(EmployeeRequest.builder().personalId("300003").name("Existing").build());
+
+		mockMvc.perform(post("/api/employee/batch")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("""
+								[{"personalId": "300001", "name": "John Doe"},
+								 {"personalId": "300002", "name": "Jane Doe"},
+								 {"personalId": "300003", "name": "John Smith"},
+								 {"personalId": "300001", "name": "Jane Smith"}]
+								"""))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.rows.length()").value(2))
+				.andExpect(jsonPath("$.rows[0].index").value(2))
+				.andExpect(jsonPath("$.rows[0].message").value("Personal ID already exists"))
+				.andExpect(jsonPath("$.rows[1].index").value(3))
+				.andExpect(jsonPath("$.rows[1].message").value("Personal ID repeats row 0"));
+
+		assertEquals(1, employeeRepository.count());
+	}
+
+	@Test
+	void cleanBatch_isInserted() throws Exception {
+		mockMvc.perform(post("/api/employee/batch")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("""
+								[{"personalId": "300011", "name": "John Doe"},
+								 {"personalId": "300012", "name": "Jane Doe"},
+								 {"personalId": "300013", "name": "John Smith"}]
+								"""))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(3));
+
+		assertEquals(3, employeeRepository.count());
+	}
+}
@@ -0,0 +1,81 @@
+package com.example.employeetracker;
+
+import com.example.employeetracker.repository.EmployeeRepository;
+import com.example.employeetracker.repository.TeamRepository;
+import com.example.employeetracker.request.EmployeeRequest;
+import com.example.employeetracker.request.TeamRequest;
+import com.example.employeetracker.response.EmployeeImportResponse;
+import com.example.employeetracker.serviceinterface.EmployeeImportService;
+import com.example.employeetracker.serviceinterface.EmployeeService;
+import com.example.employeetracker.serviceinterface.TeamService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = "employee-tracker.import.batch-size=2")
+@ActiveProfiles("test")
+class EmployeeImportTests {
+
+	@Autowired
+	private EmployeeImportService employeeImportService;
+
+	@Autowired
+	private TeamService teamService;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private TeamRepository teamRepository;
+
+	@AfterEach
+	void cleanUp() {
+		teamRepository.findAll().forEach(team -> teamService.deleteTeam(team.getId()));
+		employeeRepository.deleteAll();
+	}
+
+	@Test
+	void importEmployees_importsValidRowsAndReportsTheRest() {
+		Long teamId = teamService.createTeam(TeamRequest.builder().teamName("Platform").build()).id();
+		employeeService.addEmployee(EmployeeRequest.builder().personalId("300000").name("Existing").build());
+		// cache the (empty) member list, the import has to evict it
+		teamService.getTeamById(teamId);
+
+		String csv = """
+				personalId,name,team
+				300001,John Doe,Platform
+				300002,Jane Doe,
+				12345,Too Short,Platform
+				300003,Lost,Nowhere
+				300000,Existing Again,
+				300004,"Doe, Jim",Platform
+				""";
+
+		EmployeeImportResponse report = employeeImportService.importEmployees(new StringReader(csv));
+
+		assertEquals(6, report.rowsRead());
+		assertEquals(3, report.imported());
+		assertEquals(1, report.duplicates());
+		assertEquals(2, report.rejected());
+		assertEquals(4, report.errors().get(0).row());
+		assertEquals("personalId: Personal id must be exactly 6 digits", report.errors().get(0).message());
+		assertEquals("Team 'Nowhere' not found", report.errors().get(1).message());
+		assertEquals(2, teamService.getTeamById(teamId).employees().size());
+	}
+
+	@Test
+	void importEmployees_requiresTheHeader() {
+		assertThrows(IllegalArgumentException.class,
+				() -> employeeImportService.importEmployees(new StringReader("id,fullName\n300001,John Doe\n")));
+	}
+}
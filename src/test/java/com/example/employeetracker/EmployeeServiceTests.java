@@ -1,27 +1,37 @@
 package com.example.employeetracker;
 
+import com.example.employeetracker.config.EmployeeBatchProperties;
 import com.example.employeetracker.domain.Employee;
 import com.example.employeetracker.domain.Team;
+import com.example.employeetracker.exception.BatchRejectedException;
 import com.example.employeetracker.repository.EmployeeRepository;
+import com.example.employeetracker.repository.PersonalIdProbeRepository;
 import com.example.employeetracker.repository.TeamRepository;
+import com.example.employeetracker.request.EmployeeFields;
 import com.example.employeetracker.request.EmployeeRequest;
 import com.example.employeetracker.request.EmployeeUpdateRequest;
+import com.example.employeetracker.response.BatchRowErrorResponse;
 import com.example.employeetracker.response.EmployeeResponse;
 import com.example.employeetracker.service.EmployeeServiceImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -34,6 +44,12 @@ class EmployeeServiceTests {
 	@Mock
 	private TeamRepository teamRepository;
 
+	@Mock
+	private PersonalIdProbeRepository personalIdProbeRepository;
+
+	@Spy
+	private EmployeeBatchProperties batchProperties = new EmployeeBatchProperties();
+
 	@InjectMocks
 	private EmployeeServiceImpl employeeService;
 
@@ -115,20 +131,18 @@ class EmployeeServiceTests {
 	}
 
 	@Test
-	void getAllEmployees_returnsEmployeeList() {
-		// Arrange
+	void streamAllEmployees_passesEveryEmployeeToConsumer() {
 		Employee employee1 = createMockEmployee(1L, "John Doe", "12345", null);
 		Employee employee2 = createMockEmployee(2L, "Jane Doe", "54321", null);
 
-		when(employeeRepository.findAll()).thenReturn(List.of(employee1, employee2));
-
+		when(employeeRepository.streamAll()).thenReturn(Stream.of(employee1, employee2));
 
-		List<EmployeeResponse> responses = employeeService.getAllEmployees();
+		List<EmployeeResponse> streamed = new ArrayList<>();
+		employeeService.streamAllEmployees(EmployeeFields.ALL, streamed::add);
 
-
-		assertEquals(2, responses.size());
-		assertEquals("John Doe", responses.get(0).name());
-		assertEquals("Jane Doe", responses.get(1).name());
+		assertEquals(2, streamed.size());
+		assertEquals("John Doe", streamed.get(0).name());
+		assertEquals("Jane Doe", streamed.get(1).name());
 	}
 
 	@Test
@@ -163,6 +177,27 @@ class EmployeeServiceTests {
 		assertEquals("12345", employees.get(0).getPersonalId());
 	}
 
+	@Test
+	void addEmployees_withDuplicatePersonalIds_rejectsBatchBeforeInserting() {
+		batchProperties.setProbeChunkSize(2);
+		List<EmployeeRequest> requests = List.of(
+				EmployeeRequest.builder().personalId("100001").name("John Doe").build(),
+				EmployeeRequest.builder().personalId("100002").name("Jane Doe").build(),
+				EmployeeRequest.builder().personalId("100001").name("John Smith").build(),
+				EmployeeRequest.builder().personalId("100003").name("Jane Smith").build());
+		when(personalIdProbeRepository.findExisting(any())).thenReturn(List.of());
+		when(personalIdProbeRepository.findExisting(List.of("100003"))).thenReturn(List.of("100003"));
+
+		BatchRejectedException exception = assertThrows(BatchRejectedException.class,
+				() -> employeeService.addEmployees(requests));
+
+		assertEquals(List.of(
+				new BatchRowErrorResponse(2, "100001", "Personal ID repeats row 0"),
+				new BatchRowErrorResponse(3, "100003", "Personal ID already exists")), exception.getRows());
+		verify(personalIdProbeRepository, times(2)).findExisting(any());
+		verify(employeeRepository, never()).saveAll(any());
+	}
+
 	private Employee createMockEmployee(Long id, String name, String personalId, Team team) {
 		Employee employee = new Employee();
 		employee.setId(id);
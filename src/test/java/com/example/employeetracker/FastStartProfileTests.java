@@ -0,0 +1,45 @@
+package com.example.employeetracker;
+
+import com.example.employeetracker.request.TeamFields;
+import com.example.employeetracker.request.TeamRequest;
+import com.example.employeetracker.serviceinterface.TeamService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// the test profile comes last, so its in-memory schema settings win over faststart's
+@SpringBootTest
+@ActiveProfiles({"faststart", "test"})
+class FastStartProfileTests {
+
+	@Autowired
+	private ConfigurableApplicationContext context;
+
+	@Autowired
+	private ScheduledTaskHolder scheduledTaskHolder;
+
+	@Test
+	void servicesAreCreatedOnFirstUse() {
+		assertTrue(context.getBeanFactory().getBeanDefinition("teamServiceImpl").isLazyInit());
+		assertFalse(context.getBeanFactory().containsSingleton("teamServiceImpl"));
+
+		TeamService teamService = context.getBean(TeamService.class);
+		Long teamId = teamService.createTeam(TeamRequest.builder().teamName("Lazy").build()).id();
+
+		assertEquals("Lazy", teamService.getTeamById(teamId, TeamFields.ALL).name());
+		teamService.deleteTeam(teamId);
+	}
+
+	@Test
+	void scheduledJobsStillRun() {
+		assertTrue(scheduledTaskHolder.getScheduledTasks().stream()
+				.anyMatch(task -> task.toString().contains("IdempotencyService.purge")));
+	}
+}
@@ -0,0 +1,101 @@
+package com.example.employeetracker;
+
+import com.example.employeetracker.profiling.RecordingSummary;
+import com.example.employeetracker.profiling.RecordingSummary.OperationSummary;
+import com.example.employeetracker.profiling.ServiceOperationEvent;
+import com.example.employeetracker.repository.EmployeeRepository;
+import com.example.employeetracker.repository.TeamRepository;
+import com.example.employeetracker.request.EmployeeFields;
+import com.example.employeetracker.request.EmployeeRequest;
+import com.example.employeetracker.request.TeamRequest;
+import com.example.employeetracker.serviceinterface.EmployeeService;
+import com.example.employeetracker.serviceinterface.TeamService;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Records service calls in-process and reads them back through {@link RecordingSummary}
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class FlightRecorderTests {
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private TeamService teamService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private TeamRepository teamRepository;
+
+	@TempDir
+	private Path directory;
+
+	@AfterEach
+	void cleanUp() {
+		teamRepository.findAll().forEach(team -> teamService.deleteTeam(team.getId()));
+		employeeRepository.deleteAll();
+	}
+
+	@Test
+	void serviceCalls_areRecordedWithCounts() throws Exception {
+		Path file = directory.resolve("recording.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(ServiceOperationEvent.NAME).withoutThreshold();
+			recording.start();
+
+			Long first = employeeService.addEmployee(EmployeeRequest.builder().personalId("300001").name("John Doe").build()).id();
+			Long second = employeeService.addEmployee(EmployeeRequest.builder().personalId("300002").name("Jane Doe").build()).id();
+			Long teamId = teamService.createTeam(new TeamRequest("Platform", List.of(first, second), first)).id();
+			teamService.getTeamById(teamId);
+			employeeService.streamAllEmployees(EmployeeFields.ALL, employee -> { });
+			assertThrows(RuntimeException.class, () -> employeeService.getEmployeeById(-1L));
+
+			recording.stop();
+			recording.dump(file);
+		}
+
+		Map<String, OperationSummary> summaries = RecordingSummary.summarise(file).stream()
+				.collect(Collectors.toMap(OperationSummary::operation, Function.identity()));
+
+		OperationSummary add = summaries.get("EmployeeService.addEmployee");
+		assertEquals(2, add.calls());
+		assertEquals(2, add.entities());
+		assertTrue(add.queries() >= 2, "every insert is counted");
+
+		OperationSummary create = summaries.get("TeamService.createTeam");
+		assertEquals(1, create.calls());
+		assertTrue(create.queries() > 0);
+		assertFalse(create.mapping().isNegative());
+
+		assertEquals(2, summaries.get("EmployeeService.streamAllEmployees").entities());
+		assertTrue(summaries.get("EmployeeService.streamAllEmployees").mapping().toNanos() > 0);
+		assertEquals(1, summaries.get("EmployeeService.getEmployeeById").failed());
+
+		List<OperationSummary> ordered = RecordingSummary.summarise(file);
+		for (int i = 1; i < ordered.size(); i++) {
+			assertTrue(ordered.get(i - 1).total().compareTo(ordered.get(i).total()) >= 0, "hottest first");
+		}
+		assertEquals(4, RecordingSummary.format(ordered, 3).lines().count(), "header and three operations");
+	}
+}
@@ -0,0 +1,175 @@
+package com.example.employeetracker;
+
+import com.example.employeetracker.repository.EmployeeRepository;
+import com.example.employeetracker.repository.TeamRepository;
+import com.example.employeetracker.request.EmployeeRequest;
+import com.example.employeetracker.request.TeamRequest;
+import com.example.employeetracker.serviceinterface.EmployeeService;
+import com.example.employeetracker.serviceinterface.TeamService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.tester.AutoConfigureGraphQlTester;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.graphql.test.tester.GraphQlTester;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "employee-tracker.graphql.max-complexity=20")
+@AutoConfigureGraphQlTester
+@ActiveProfiles("test")
+class GraphQlTests {
+
+	private static final String ORG_QUERY = """
+			{ teams(first: 50) { name lead { name team { name } } members(first: 10) { personalId team { name } } } }
+			""";
+
+	@Autowired
+	private GraphQlTester graphQlTester;
+
+	@Autowired
+	private TeamService teamService;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private TeamRepository teamRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@AfterEach
+	void cleanUp() {
+		teamRepository.findAll().forEach(team -> teamService.deleteTeam(team.getId()));
+		employeeRepository.deleteAll();
+	}
+
+	@Test
+	void teamGraph_resolvesLeadsMembersAndTheirTeams() {
+		createTeam("Platform", "400000", 3);
+
+		graphQlTester.document(ORG_QUERY).execute()
+				.path("teams[0].name").entity(String.class).isEqualTo("Platform")
+				.path("teams[0].lead.name").entity(String.class).isEqualTo("Member 400000")
+				.path("teams[0].lead.team.name").entity(String.class).isEqualTo("Platform")
+				.path("teams[0].members[*].personalId").entityList(String.class)
+				.containsExactly("400000", "400001", "400002")
+				.path("teams[0].members[2].team.name").entity(String.class).isEqualTo("Platform");
+	}
+
+	@Test
+	void teamGraph_statementCountDoesNotGrowWithTheNumberOfTeams() {
+		createTeam("Alpha", "400100", 2);
+		long withOneTeam = countStatements(ORG_QUERY);
+
+		for (int i = 1; i < 10; i++) {
+			createTeam("Team " + i, "4002" + i + "0", 2);
+		}
+		long withTenTeams = countStatements(ORG_QUERY);
+
+		assertEquals(withOneTeam, withTenTeams);
+		// teams, leads, members and their teams: one statement each at most
+		assertTrue(withTenTeams <= 4, "statements: " + withTenTeams);
+	}
+
+	@Test
+	void employee_missingIdResolvesToNull() {
+		graphQlTester.document("{ employee(id: 999999) { name } }").execute()
+				.path("employee").valueIsNull();
+	}
+
+	@Test
+	void teams_returnsTheFirstTeamsById() {
+		createTeam("Alpha", "400300", 1);
+		createTeam("Beta", "400310", 1);
+		createTeam("Gamma", "400320", 1);
+
+		graphQlTester.document("{ teams(first: 2) { name } }").execute()
+				.path("teams[*].name").entityList(String.class).containsExactly("Alpha", "Beta");
+	}
+
+	@Test
+	void rootListsWithoutABoundedFirst_areRejected() {
+		graphQlTester.document("{ employees { name } }").execute()
+				.errors().expect(error -> error.getMessage().contains("first")).verify();
+		graphQlTester.document("{ employees(first: 100000) { name } }").execute()
+				.errors().satisfy(errors -> assertTrue(errors.stream()
+						.anyMatch(error -> error.getMessage().equals("first must be between 1 and 500"))));
+	}
+
+	@Test
+	void members_returnsTheFirstMembersOfEveryTeam() {
+		createTeam("Alpha", "400400", 3);
+		createTeam("Beta", "400410", 3);
+
+		graphQlTester.document("{ teams(first: 2) { members(first: 2) { personalId } } }").execute()
+				.path("teams[0].members[*].personalId").entityList(String.class).containsExactly("400400", "400401")
+				.path("teams[1].members[*].personalId").entityList(String.class).containsExactly("400410", "400411");
+	}
+
+	@Test
+	void membersWithoutABoundedFirst_areRejected() {
+		createTeam("Alpha", "400500", 1);
+
+		graphQlTester.document("{ teams(first: 10) { members { name } } }").execute()
+				.errors().expect(error -> error.getMessage().contains("first")).verify();
+		graphQlTester.document("{ teams(first: 10) { members(first: 51) { name } } }").execute()
+				.errors().satisfy(errors -> assertTrue(errors.stream()
+						.anyMatch(error -> error.getMessage().equals("first must be between 1 and 50"))));
+	}
+
+	@Test
+	void tooDeepQuery_isRejected() {
+		graphQlTester.document("{ teams(first: 10) { lead { team { lead { team { lead { team { name } } } } } } } }").execute()
+				.errors().expect(error -> error.getMessage().contains("depth")).verify();
+	}
+
+	@Test
+	void tooComplexQuery_isRejected() {
+		List<String> aliases = new ArrayList<>();
+		for (int i = 0; i < 21; i++) {
+			aliases.add("n" + i + ": name");
+		}
+
+		graphQlTester.document("{ teams(first: 10) { " + String.join(" ", aliases) + " } }").execute()
+				.errors().expect(error -> error.getMessage().contains("complexity")).verify();
+	}
+
+	private long countStatements(String query) {
+		entityManagerFactory.getCache().evictAll();
+		statistics.clear();
+		graphQlTester.document(query).execute().errors().verify();
+		return statistics.getPrepareStatementCount();
+	}
+
+	private void createTeam(String name, String firstPersonalId, int size) {
+		List<Long> memberIds = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			String personalId = String.valueOf(Long.parseLong(firstPersonalId) + i);
+			memberIds.add(employeeService.addEmployee(EmployeeRequest.builder()
+					.personalId(personalId).name("Member " + personalId).build()).id());
+		}
+		teamService.createTeam(TeamRequest.builder()
+				.teamName(name).employeeIds(memberIds).teamLeadId(memberIds.get(0)).build());
+	}
+}
@@ -0,0 +1,115 @@
+package com.example.employeetracker;
+
+import com.example.employeetracker.domain.IdempotencyStatus;
+import com.example.employeetracker.idempotency.IdempotencyService;
+import com.example.employeetracker.repository.EmployeeRepository;
+import com.example.employeetracker.repository.IdempotencyRecordRepository;
+import com.example.employeetracker.repository.TeamRepository;
+import com.example.employeetracker.request.EmployeeRequest;
+import com.example.employeetracker.request.EmployeeUpdateRequest;
+import com.example.employeetracker.request.TeamRequest;
+import com.example.employeetracker.response.EmployeeResponse;
+import com.example.employeetracker.response.TeamResponse;
+import com.example.employeetracker.serviceinterface.EmployeeService;
+import com.example.employeetracker.serviceinterface.TeamService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The key is claimed, the create runs and the response is stored in one transaction
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class IdempotencyTests {
+
+	private static final String SCOPE = "POST /api/employee";
+
+	@Autowired
+	private IdempotencyService idempotencyService;
+
+	@Autowired
+	private IdempotencyRecordRepository idempotencyRecordRepository;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private TeamService teamService;
+
+	@Autowired
+	private TeamRepository teamRepository;
+
+	private final EmployeeRequest request = EmployeeRequest.builder().personalId("400001").name("John Doe").build();
+
+	@AfterEach
+	void cleanUp() {
+		idempotencyRecordRepository.deleteAll();
+		teamRepository.findAll().forEach(team -> teamService.deleteTeam(team.getId()));
+		employeeRepository.deleteAll();
+	}
+
+	@Test
+	void execute_retryReplaysTheCommittedCreate() {
+		EmployeeResponse first = idempotencyService.execute(SCOPE, "create-1", request, new TypeReference<>() {},
+				() -> employeeService.addEmployee(request));
+		EmployeeResponse retry = idempotencyService.execute(SCOPE, "create-1", request, new TypeReference<>() {},
+				() -> employeeService.addEmployee(request));
+
+		assertEquals(first, retry);
+		assertEquals(1, employeeRepository.count());
+		assertEquals(IdempotencyStatus.COMPLETED, idempotencyRecordRepository.findAll().get(0).getStatus());
+	}
+
+	@Test
+	void execute_failedCreateReleasesTheKey() {
+		assertThrows(IllegalStateException.class, () -> idempotencyService.execute(SCOPE, "create-2", request,
+				new TypeReference<EmployeeResponse>() {}, () -> {
+					employeeService.addEmployee(request);
+					throw new IllegalStateException("node died before the commit");
+				}));
+		assertEquals(0, employeeRepository.count());
+		assertEquals(0, idempotencyRecordRepository.count());
+
+		idempotencyService.execute(SCOPE, "create-2", request, new TypeReference<>() {},
+				() -> employeeService.addEmployee(request));
+		assertEquals(1, employeeRepository.count());
+	}
+
+	@Test
+	void execute_createThatLosesAVersionRaceIsRetriedAsAWhole() {
+		Long employeeId = employeeService.addEmployee(request).id();
+		TeamRequest team = TeamRequest.builder().teamName("Platform").employeeIds(List.of(employeeId)).build();
+		AtomicInteger attempts = new AtomicInteger();
+
+		TeamResponse created = idempotencyService.execute("POST /api/team", "create-3", team, new TypeReference<>() {},
+				() -> {
+					if (attempts.incrementAndGet() == 1) {
+						// read the employee, then let another request change it before this one writes it
+						employeeRepository.findById(employeeId).orElseThrow();
+						CompletableFuture.runAsync(() -> employeeService.updateEmployee(employeeId,
+								EmployeeUpdateRequest.builder().name("Renamed").build())).join();
+					}
+					return teamService.createTeam(team);
+				});
+
+		assertEquals(2, attempts.get());
+		assertEquals(1, teamRepository.count());
+		assertEquals(created.id(), employeeService.getEmployeeById(employeeId).teamId());
+		assertEquals("Renamed", employeeService.getEmployeeById(employeeId).name());
+		assertEquals(IdempotencyStatus.COMPLETED, idempotencyRecordRepository.findAll().get(0).getStatus());
+	}
+}
@@ -0,0 +1,171 @@
+package com.example.employeetracker;
+
+import com.example.employeetracker.domain.MembershipRole;
+import com.example.employeetracker.repository.EmployeeRepository;
+import com.example.employeetracker.repository.TeamRepository;
+import com.example.employeetracker.request.EmployeeRequest;
+import com.example.employeetracker.request.EmployeeUpdateRequest;
+import com.example.employeetracker.request.TeamRequest;
+import com.example.employeetracker.response.MembershipResponse;
+import com.example.employeetracker.serviceinterface.EmployeeImportService;
+import com.example.employeetracker.serviceinterface.EmployeeService;
+import com.example.employeetracker.serviceinterface.MembershipHistoryService;
+import com.example.employeetracker.serviceinterface.TeamService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.StringReader;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MembershipHistoryTests {
+
+	@Autowired
+	private MembershipHistoryService membershipHistoryService;
+
+	@Autowired
+	private TeamService teamService;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private EmployeeImportService employeeImportService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private TeamRepository teamRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@AfterEach
+	void cleanUp() {
+		teamRepository.findAll().forEach(team -> teamService.deleteTeam(team.getId()));
+		employeeRepository.deleteAll();
+		jdbcTemplate.update("delete from team_membership_history");
+	}
+
+	@Test
+	void movingAnEmployee_keepsTheOldRosterAnswerable() throws InterruptedException {
+		Long platform = createTeam("Platform");
+		Long payments = createTeam("Payments");
+		Long employee = addEmployee("500000", platform);
+		Instant beforeMove = pause();
+
+		employeeService.updateEmployee(employee, EmployeeUpdateRequest.builder().teamId(payments).build());
+
+		assertEquals(List.of(employee), memberIds(membershipHistoryService.getTeamRosterAsOf(platform, beforeMove)));
+		assertEquals(List.of(), memberIds(membershipHistoryService.getTeamRosterAsOf(platform, null)));
+		assertEquals(List.of(employee), memberIds(membershipHistoryService.getTeamRosterAsOf(payments, null)));
+
+		List<MembershipResponse> timeline = membershipHistoryService.getEmployeeTimeline(employee, null, null);
+		assertEquals(List.of(platform, payments), timeline.stream().map(MembershipResponse::teamId).toList());
+		assertEquals(timeline.get(0).validTo(), timeline.get(1).validFrom());
+		assertNull(timeline.get(1).validTo());
+	}
+
+	@Test
+	void leadChanges_areRecordedNextToMemberships() throws InterruptedException {
+		Long lead = addEmployee("500100", null);
+		Long member = addEmployee("500101", null);
+		Long team = teamService.createTeam(TeamRequest.builder()
+				.teamName("Platform").employeeIds(List.of(lead, member)).teamLeadId(lead).build()).id();
+		Instant whileLeading = pause();
+
+		teamService.removeEmployeeFromTeam(team, lead);
+
+		List<MembershipResponse> then = membershipHistoryService.getTeamRosterAsOf(team, whileLeading);
+		assertEquals(MembershipRole.LEAD, then.get(0).role());
+		assertEquals(lead, then.get(0).employeeId());
+		assertEquals(List.of(lead, member), memberIds(then));
+
+		List<MembershipResponse> now = membershipHistoryService.getTeamRosterAsOf(team, null);
+		assertEquals(List.of(member), memberIds(now));
+		assertTrue(now.stream().noneMatch(membership -> membership.role() == MembershipRole.LEAD));
+	}
+
+	@Test
+	void deletedTeams_stayInTheHistory() throws InterruptedException {
+		Long team = createTeam("Platform");
+		Long employee = addEmployee("500200", team);
+		Instant beforeDelete = pause();
+
+		teamService.deleteTeam(team);
+
+		assertEquals(List.of(employee), memberIds(membershipHistoryService.getTeamRosterAsOf(team, beforeDelete)));
+		assertNotNull(membershipHistoryService.getEmployeeTimeline(employee, null, null).get(0).validTo());
+	}
+
+	@Test
+	void rolledBackChanges_leaveNoHistory() {
+		Long team = createTeam("Platform");
+		Long employee = addEmployee("500300", null);
+
+		assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+			employeeService.updateEmployee(employee, EmployeeUpdateRequest.builder().teamId(team).build());
+			employeeRepository.flush();
+			throw new IllegalStateException("rolled back after the flush");
+		}));
+
+		assertEquals(List.of(), membershipHistoryService.getEmployeeTimeline(employee, null, null));
+	}
+
+	@Test
+	void importedEmployees_startTheirMembership() {
+		Long team = createTeam("Platform");
+
+		employeeImportService.importEmployees(new StringReader("personalId,name,team\n500400,John Doe,Platform\n500400,Again,Platform\n"));
+
+		assertEquals(1, membershipHistoryService.getTeamRosterAsOf(team, null).size());
+	}
+
+	@Test
+	void timeline_rejectsAnEmptyPeriod() {
+		Instant now = Instant.now();
+
+		assertThrows(IllegalArgumentException.class, () -> membershipHistoryService.getEmployeeTimeline(1L, now, now));
+	}
+
+	private static List<Long> memberIds(List<MembershipResponse> roster) {
+		return roster.stream()
+				.filter(membership -> membership.role() == MembershipRole.MEMBER)
+				.map(MembershipResponse::employeeId)
+				.toList();
+	}
+
+	// history has microsecond precision, keep the instants we query at apart from the changes around them
+	private static Instant pause() throws InterruptedException {
+		Thread.sleep(5);
+		Instant now = Instant.now();
+		Thread.sleep(5);
+		return now;
+	}
+
+	private Long createTeam(String name) {
+		return teamService.createTeam(TeamRequest.builder().teamName(name).build()).id();
+	}
+
+	private Long addEmployee(String personalId, Long teamId) {
+		return employeeService.addEmployee(EmployeeRequest.builder()
+				.personalId(personalId).name("Member " + personalId).teamId(teamId).build()).id();
+	}
+}
@@ -0,0 +1,125 @@
+package com.example.employeetracker;
+
+import com.example.employeetracker.repository.EmployeeRepository;
+import com.example.employeetracker.repository.TeamRepository;
+import com.example.employeetracker.request.EmployeeFields;
+import com.example.employeetracker.request.EmployeeRequest;
+import com.example.employeetracker.request.TeamFields;
+import com.example.employeetracker.request.TeamRequest;
+import com.example.employeetracker.response.EmployeeResponse;
+import com.example.employeetracker.response.MultiGetResponse;
+import com.example.employeetracker.response.TeamResponse;
+import com.example.employeetracker.serviceinterface.EmployeeService;
+import com.example.employeetracker.serviceinterface.TeamService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "employee-tracker.multi-get.chunk-size=2")
+@ActiveProfiles("test")
+class MultiGetTests {
+
+	@Autowired
+	private TeamService teamService;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private TeamRepository teamRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@AfterEach
+	void cleanUp() {
+		teamRepository.findAll().forEach(team -> teamService.deleteTeam(team.getId()));
+		employeeRepository.deleteAll();
+	}
+
+	@Test
+	void getEmployeesByIds_keepsRequestOrderAndMarksMissingIds() {
+		Long first = addEmployee("200001").id();
+		Long second = addEmployee("200002").id();
+		Long missing = second + 1000;
+
+		List<MultiGetResponse<EmployeeResponse>> result =
+				employeeService.getEmployeesByIds(List.of(second, missing, first, second), EmployeeFields.ALL);
+
+		assertEquals(List.of(second, missing, first, second), result.stream().map(MultiGetResponse::id).toList());
+		assertEquals("200002", result.get(0).item().personalId());
+		assertFalse(result.get(1).found());
+		assertNull(result.get(1).item());
+		assertEquals("200001", result.get(2).item().personalId());
+		assertTrue(result.get(3).found());
+	}
+
+	@Test
+	void getEmployeesByIds_loadsUncachedIdsInChunks() {
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			ids.add(addEmployee("20010" + i).id());
+		}
+		entityManagerFactory.getCache().evictAll();
+
+		statistics.clear();
+		List<MultiGetResponse<EmployeeResponse>> result = employeeService.getEmployeesByIds(ids, EmployeeFields.ALL);
+
+		assertTrue(result.stream().allMatch(MultiGetResponse::found));
+		// chunk size is 2 in this test
+		assertEquals(3, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	void getTeamsByIds_servesCachedTeamsWithoutSql() {
+		Long first = teamService.createTeam(TeamRequest.builder().teamName("Alpha").build()).id();
+		Long second = teamService.createTeam(TeamRequest.builder().teamName("Beta").build()).id();
+		teamService.getTeamsByIds(List.of(first, second), TeamFields.parse("id,name"));
+
+		statistics.clear();
+		List<MultiGetResponse<TeamResponse>> result = teamService.getTeamsByIds(List.of(second, first), TeamFields.parse("id,name"));
+
+		assertEquals("Beta", result.get(0).item().name());
+		assertEquals("Alpha", result.get(1).item().name());
+		assertEquals(0, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	void getTeamsByIds_rejectsTooManyIds() {
+		List<Long> ids = LongStream.rangeClosed(1, 501).boxed().toList();
+
+		assertThrows(IllegalArgumentException.class, () -> teamService.getTeamsByIds(ids, TeamFields.ALL));
+		assertThrows(IllegalArgumentException.class, () -> teamService.getTeamsByIds(Collections.emptyList(), TeamFields.ALL));
+	}
+
+	private EmployeeResponse addEmployee(String personalId) {
+		return employeeService.addEmployee(EmployeeRequest.builder().personalId(personalId).name("John Doe").build());
+	}
+}
@@ -0,0 +1,167 @@
+package com.example.employeetracker;
+
+import com.example.employeetracker.exception.ResourceNotFoundException;
+import com.example.employeetracker.repository.EmployeeRepository;
+import com.example.employeetracker.repository.TeamRepository;
+import com.example.employeetracker.request.EmployeeFields;
+import com.example.employeetracker.request.EmployeeRequest;
+import com.example.employeetracker.request.TeamFields;
+import com.example.employeetracker.request.TeamRequest;
+import com.example.employeetracker.response.EmployeeResponse;
+import com.example.employeetracker.response.RosterRowResponse;
+import com.example.employeetracker.serviceinterface.EmployeeService;
+import com.example.employeetracker.serviceinterface.RosterExportService;
+import com.example.employeetracker.serviceinterface.TeamService;
+import com.example.employeetracker.tenant.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+		"employee-tracker.tenant.enabled=true",
+		"employee-tracker.api.clients.acme-portal.key=acme-key",
+		"employee-tracker.api.clients.acme-portal.tenant=acme",
+		"employee-tracker.api.clients.globex-portal.key=globex-key",
+		"employee-tracker.api.clients.globex-portal.tenant=globex",
+		"employee-tracker.api.clients.unassigned.key=unassigned-key"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MultiTenancyTests {
+
+	private static final String ACME = "acme";
+	private static final String GLOBEX = "globex";
+
+	@Autowired
+	private TeamService teamService;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private RosterExportService rosterExportService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private TeamRepository teamRepository;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@AfterEach
+	void cleanUp() {
+		for (String tenant : List.of(ACME, GLOBEX)) {
+			TenantContext.runAs(tenant, () -> {
+				teamRepository.findAll().forEach(team -> teamService.deleteTeam(team.getId()));
+				employeeRepository.deleteAll();
+			});
+		}
+	}
+
+	@Test
+	void personalIdsAndTeamNames_areUniquePerTenant() {
+		Long acmeEmployee = TenantContext.callAs(ACME, () -> addEmployee("600000"));
+		Long globexEmployee = TenantContext.callAs(GLOBEX, () -> addEmployee("600000"));
+		TenantContext.runAs(ACME, () -> createTeam("Platform"));
+		TenantContext.runAs(GLOBEX, () -> createTeam("Platform"));
+
+		assertFalse(acmeEmployee.equals(globexEmployee));
+		TenantContext.runAs(ACME, () -> assertEquals(1, teamService.searchTeams("Platform", null, TeamFields.ALL).size()));
+	}
+
+	@Test
+	void readsNeverCrossTenants() {
+		Long acmeEmployee = TenantContext.callAs(ACME, () -> addEmployee("600100"));
+		// cached by the owner first, the second-level cache must not hand it to the other tenant either
+		TenantContext.runAs(ACME, () -> employeeService.getEmployeeById(acmeEmployee));
+
+		TenantContext.runAs(GLOBEX, () -> {
+			assertThrows(ResourceNotFoundException.class, () -> employeeService.getEmployeeById(acmeEmployee));
+			assertEquals(List.of(), employeeService.searchEmployees("600100", null, EmployeeFields.ALL));
+			assertFalse(employeeService.getEmployeesByIds(List.of(acmeEmployee), EmployeeFields.ALL).get(0).found());
+			List<EmployeeResponse> streamed = new ArrayList<>();
+			employeeService.streamAllEmployees(EmployeeFields.ALL, streamed::add);
+			assertEquals(List.of(), streamed);
+		});
+	}
+
+	@Test
+	void teamsOnlyTakeMembersOfTheirTenant() {
+		Long acmeEmployee = TenantContext.callAs(ACME, () -> addEmployee("600200"));
+
+		TenantContext.runAs(GLOBEX, () -> {
+			Long team = teamService.createTeam(TeamRequest.builder()
+					.teamName("Platform").employeeIds(List.of(acmeEmployee)).build()).id();
+			assertEquals(List.of(), teamService.getTeamById(team).employees());
+		});
+	}
+
+	@Test
+	void rosterExport_onlyListsTheCurrentTenant() {
+		TenantContext.runAs(ACME, () -> addEmployee("600300"));
+		TenantContext.runAs(GLOBEX, () -> addEmployee("600301"));
+
+		List<RosterRowResponse> rows = new ArrayList<>();
+		TenantContext.runAs(GLOBEX, () -> rosterExportService.openRoster(null).accept(rows::add));
+
+		assertEquals(List.of("600301"), rows.stream().map(RosterRowResponse::personalId).toList());
+	}
+
+	@Test
+	void requestsWithoutAKnownClient_areRejected() throws Exception {
+		mockMvc.perform(get("/api/team/search").header("X-Tenant-Id", ACME))
+				.andExpect(status().isForbidden());
+		mockMvc.perform(get("/api/team/search").header("X-Api-Key", "guessed-key"))
+				.andExpect(status().isForbidden());
+		mockMvc.perform(get("/api/team/search").header("X-Api-Key", "unassigned-key"))
+				.andExpect(status().isForbidden());
+	}
+
+	@Test
+	void tenantHeader_mustMatchTheClientsTenant() throws Exception {
+		mockMvc.perform(get("/api/team/search").header("X-Api-Key", "globex-key").header("X-Tenant-Id", ACME))
+				.andExpect(status().isForbidden());
+		mockMvc.perform(get("/api/team/search").header("X-Api-Key", "acme-key")
+						.header("X-Tenant-Id", "acme; drop table teams"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void requestsRunAsTheirClientsTenant() throws Exception {
+		TenantContext.runAs(ACME, () -> createTeam("Platform"));
+
+		mockMvc.perform(get("/api/team/search").header("X-Api-Key", "acme-key").header("X-Tenant-Id", ACME))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(1));
+		mockMvc.perform(get("/api/team/search").header("X-Api-Key", "acme-key"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(1));
+		mockMvc.perform(get("/api/team/search").header("X-Api-Key", "globex-key"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(0));
+	}
+
+	private Long addEmployee(String personalId) {
+		return employeeService.addEmployee(EmployeeRequest.builder().personalId(personalId).name("Jane Doe").build()).id();
+	}
+
+	private void createTeam(String name) {
+		teamService.createTeam(TeamRequest.builder().teamName(name).build());
+	}
+}
@@ -0,0 +1,77 @@
+package com.example.employeetracker;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.RestClient;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end checks over HTTP of the paths that depend on reflection, proxies and lazy loading.
+ * Runs on the JVM with the rest of the suite and, through {@code ./mvnw -PnativeTest test},
+ * inside a native executable against the embedded database.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class NativeSmokeTests {
+
+	@LocalServerPort
+	private int port;
+
+	private RestClient client;
+
+	@BeforeEach
+	void setUp() {
+		client = RestClient.builder()
+				.baseUrl("http://localhost:" + port)
+				.defaultHeader("Accept", MediaType.APPLICATION_JSON_VALUE)
+				.build();
+	}
+
+	@Test
+	void teamAndEmployeeLifecycle() {
+		long teamId = post("/api/team", Map.of("teamName", "Smoke")).get("id").asLong();
+		long employeeId = post("/api/employee", Map.of("personalId", "500001", "name", "Smoke Tester", "teamId", teamId))
+				.get("id").asLong();
+		client.put().uri("/api/team/{id}", teamId)
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(Map.of("teamName", "Smoke", "teamLeadId", employeeId))
+				.retrieve().toBodilessEntity();
+
+		JsonNode team = get("/api/team/" + teamId);
+		assertEquals(employeeId, team.get("teamLead").get("id").asLong());
+		assertEquals(1, team.get("employees").size());
+
+		assertEquals(1, get("/api/employee/search?name=Smoke Tester").size());
+		assertEquals(1, get("/api/team/search?teamName=smo&fields=id,name").size());
+		assertTrue(get("/api/team?fields=id,teamLead").size() >= 1);
+		assertFalse(get("/api/employee/multi?ids=" + employeeId + ",0").get(1).get("found").asBoolean());
+
+		String roster = client.get().uri("/api/export/roster.csv?teamId={id}", teamId)
+				.accept(MediaType.ALL).retrieve().body(String.class);
+		assertTrue(roster.contains("500001,Smoke Tester," + teamId + ",Smoke," + employeeId + ",Smoke Tester,true"));
+
+		client.delete().uri("/api/team/{id}", teamId).retrieve().toBodilessEntity();
+		client.delete().uri("/api/employee/{id}", employeeId).retrieve().toBodilessEntity();
+	}
+
+	private JsonNode post(String path, Map<String, ?> body) {
+		return client.post().uri(path)
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(body)
+				.retrieve().body(JsonNode.class);
+	}
+
+	private JsonNode get(String path) {
+		return client.get().uri(path).retrieve().body(JsonNode.class);
+	}
+}
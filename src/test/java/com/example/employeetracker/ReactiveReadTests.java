@@ -0,0 +1,113 @@
+package com.example.employeetracker;
+
+import com.example.employeetracker.repository.EmployeeRepository;
+import com.example.employeetracker.repository.TeamRepository;
+import com.example.employeetracker.request.EmployeeFields;
+import com.example.employeetracker.request.EmployeeRequest;
+import com.example.employeetracker.request.TeamFields;
+import com.example.employeetracker.request.TeamRequest;
+import com.example.employeetracker.response.EmployeeResponse;
+import com.example.employeetracker.response.TeamResponse;
+import com.example.employeetracker.serviceinterface.EmployeeService;
+import com.example.employeetracker.serviceinterface.ReactiveReadService;
+import com.example.employeetracker.serviceinterface.TeamService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+// JDBC and R2DBC have to open the same in-memory database, so this context uses a fixed name
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:reactive-read;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+		"employee-tracker.reactive.enabled=true",
+		"employee-tracker.reactive.url=r2dbc:h2:mem:///reactive-read?options=MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+		"employee-tracker.reactive.username=sa",
+		"employee-tracker.reactive.password=",
+		"employee-tracker.reactive.fetch-size=2"
+})
+@ActiveProfiles("test")
+class ReactiveReadTests {
+
+	@Autowired
+	private ReactiveReadService reactiveReadService;
+
+	@Autowired
+	private TeamService teamService;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private TeamRepository teamRepository;
+
+	@AfterEach
+	void cleanUp() {
+		teamRepository.findAll().forEach(team -> teamService.deleteTeam(team.getId()));
+		employeeRepository.deleteAll();
+	}
+
+	@Test
+	void getAllEmployees_streamsEveryEmployeeInIdOrder() {
+		for (int i = 0; i < 5; i++) {
+			addEmployee("30000" + i, "Jane Doe");
+		}
+
+		List<EmployeeResponse> result = reactiveReadService.getAllEmployees(EmployeeFields.ALL).collectList().block();
+
+		assertEquals(List.of("300000", "300001", "300002", "300003", "300004"),
+				result.stream().map(EmployeeResponse::personalId).toList());
+	}
+
+	@Test
+	void searchEmployees_matchesTheJpaSearch() {
+		addEmployee("300100", "Jane Doe");
+		addEmployee("300101", "John Doe");
+
+		List<EmployeeResponse> result = reactiveReadService
+				.searchEmployees(null, "John Doe", EmployeeFields.parse("personalId")).collectList().block();
+
+		assertEquals(employeeService.searchEmployees(null, "John Doe", EmployeeFields.parse("personalId")), result);
+		assertNull(result.get(0).id());
+	}
+
+	@Test
+	void searchTeams_foldsLeadAndMembersIntoOneResponsePerTeam() {
+		Long lead = addEmployee("300200", "Jane Doe").id();
+		Long member = addEmployee("300201", "John Doe").id();
+		teamService.createTeam(TeamRequest.builder().teamName("Platform").employeeIds(List.of(lead, member)).teamLeadId(lead).build());
+		teamService.createTeam(TeamRequest.builder().teamName("Payments").build());
+
+		List<TeamResponse> all = reactiveReadService.getAllTeams(TeamFields.ALL).collectList().block();
+		List<TeamResponse> led = reactiveReadService.searchTeams("PLAT", lead, TeamFields.ALL).collectList().block();
+
+		assertEquals(2, all.size());
+		assertEquals(teamService.searchTeams("PLAT", lead, TeamFields.ALL), led);
+		assertEquals(List.of(lead, member), led.get(0).employees().stream().map(EmployeeResponse::id).toList());
+		assertEquals("Jane Doe", led.get(0).teamLead().name());
+	}
+
+	@Test
+	void getAllTeams_skipsUnselectedAssociations() {
+		teamService.createTeam(TeamRequest.builder().teamName("Platform").build());
+
+		TeamResponse team = reactiveReadService.getAllTeams(TeamFields.parse("name")).blockFirst();
+
+		assertEquals("Platform", team.name());
+		assertNull(team.id());
+		assertNull(team.teamLead());
+		assertNull(team.employees());
+	}
+
+	private EmployeeResponse addEmployee(String personalId, String name) {
+		return employeeService.addEmployee(EmployeeRequest.builder().personalId(personalId).name(name).build());
+	}
+}
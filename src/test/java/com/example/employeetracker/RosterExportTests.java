@@ -0,0 +1,118 @@
+package com.example.employeetracker;
+
+import com.example.employeetracker.exception.ResourceNotFoundException;
+import com.example.employeetracker.mapper.RosterMapper;
+import com.example.employeetracker.repository.EmployeeRepository;
+import com.example.employeetracker.repository.TeamRepository;
+import com.example.employeetracker.request.EmployeeRequest;
+import com.example.employeetracker.request.TeamRequest;
+import com.example.employeetracker.response.RosterRowResponse;
+import com.example.employeetracker.serviceinterface.EmployeeService;
+import com.example.employeetracker.serviceinterface.RosterExportService;
+import com.example.employeetracker.serviceinterface.TeamService;
+import com.example.employeetracker.streaming.CsvStreamer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RosterExportTests {
+
+	@Autowired
+	private RosterExportService rosterExportService;
+
+	@Autowired
+	private CsvStreamer csvStreamer;
+
+	@Autowired
+	private TeamService teamService;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private TeamRepository teamRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@AfterEach
+	void cleanUp() {
+		teamRepository.findAll().forEach(team -> teamService.deleteTeam(team.getId()));
+		employeeRepository.deleteAll();
+	}
+
+	@Test
+	void openRoster_exportsAssignmentsWithoutLoadingEntities() {
+		Long teamId = teamService.createTeam(TeamRequest.builder().teamName("Finance").build()).id();
+		Long leadId = employeeService.addEmployee(EmployeeRequest.builder().personalId("400001").name("Lead").teamId(teamId).build()).id();
+		employeeService.addEmployee(EmployeeRequest.builder().personalId("400002").name("Member").teamId(teamId).build());
+		employeeService.addEmployee(EmployeeRequest.builder().personalId("400003").name("Loner").build());
+		teamService.updateTeam(teamId, TeamRequest.builder().teamName("Finance").teamLeadId(leadId).build());
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		List<RosterRowResponse> all = new ArrayList<>();
+		rosterExportService.openRoster(null).accept(all::add);
+		List<RosterRowResponse> team = new ArrayList<>();
+		rosterExportService.openRoster(teamId).accept(team::add);
+
+		assertEquals(3, all.size());
+		assertEquals(0, statistics.getEntityLoadCount());
+		assertTrue(all.get(0).teamLead());
+		assertEquals("Lead", all.get(1).teamLeadName());
+		assertFalse(all.get(1).teamLead());
+		assertNull(all.get(2).teamName());
+		assertEquals(List.of("400001", "400002"), team.stream().map(RosterRowResponse::personalId).toList());
+	}
+
+	@Test
+	void openRoster_unknownTeamFailsBeforeAnythingIsStreamed() {
+		assertThrows(ResourceNotFoundException.class, () -> rosterExportService.openRoster(-1L));
+	}
+
+	@Test
+	void csvStreamer_writesAGzippedFile() throws IOException {
+		RosterRowResponse row = new RosterRowResponse(1L, "400001", "Doe, Jane", 2L, "Finance", 1L, "Doe, Jane", true);
+		ResponseEntity<StreamingResponseBody> response = csvStreamer.<RosterRowResponse>stream("roster.csv", true,
+				RosterMapper.CSV_HEADER, RosterMapper::toCsvRecord, consumer -> consumer.accept(row));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		response.getBody().writeTo(out);
+		String csv;
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+			csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+
+		assertEquals("""
+				employeeId,personalId,name,teamId,teamName,teamLeadId,teamLeadName,teamLead\r
+				1,400001,"Doe, Jane",2,Finance,1,"Doe, Jane",true\r
+				""", csv);
+		assertTrue(response.getHeaders().getContentDisposition().getFilename().endsWith(".csv.gz"));
+	}
+}
@@ -0,0 +1,89 @@
+package com.example.employeetracker;
+
+import com.example.employeetracker.repository.EmployeeRepository;
+import com.example.employeetracker.repository.TeamRepository;
+import com.example.employeetracker.request.EmployeeRequest;
+import com.example.employeetracker.request.EmployeeUpdateRequest;
+import com.example.employeetracker.request.TeamRequest;
+import com.example.employeetracker.response.EmployeeResponse;
+import com.example.employeetracker.response.TeamResponse;
+import com.example.employeetracker.serviceinterface.EmployeeService;
+import com.example.employeetracker.serviceinterface.TeamService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheTests {
+
+	@Autowired
+	private TeamService teamService;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private TeamRepository teamRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@AfterEach
+	void cleanUp() {
+		teamRepository.findAll().forEach(team -> teamService.deleteTeam(team.getId()));
+		employeeRepository.deleteAll();
+	}
+
+	@Test
+	void repeatedTeamLookup_isServedWithoutSql() {
+		Long teamId = teamService.createTeam(TeamRequest.builder().teamName("Cached").build()).id();
+		employeeService.addEmployee(EmployeeRequest.builder().personalId("100001").name("John Doe").teamId(teamId).build());
+		teamService.getTeamById(teamId);
+
+		statistics.clear();
+		TeamResponse team = teamService.getTeamById(teamId);
+
+		assertEquals(1, team.employees().size());
+		assertEquals(0, statistics.getPrepareStatementCount());
+		assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+	}
+
+	@Test
+	void movingEmployee_evictsCachedMembersOfBothTeams() {
+		Long fromId = teamService.createTeam(TeamRequest.builder().teamName("From").build()).id();
+		Long toId = teamService.createTeam(TeamRequest.builder().teamName("To").build()).id();
+		EmployeeResponse employee = employeeService.addEmployee(
+				EmployeeRequest.builder().personalId("100002").name("Jane Doe").teamId(fromId).build());
+		teamService.getTeamById(fromId);
+		teamService.getTeamById(toId);
+
+		employeeService.updateEmployee(employee.id(), EmployeeUpdateRequest.builder().teamId(toId).build());
+
+		assertEquals(List.of(), teamService.getTeamById(fromId).employees());
+		assertEquals(List.of(employee.id()), teamService.getTeamById(toId).employees().stream()
+				.map(EmployeeResponse::id)
+				.toList());
+	}
+}
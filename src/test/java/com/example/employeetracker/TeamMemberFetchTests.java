@@ -0,0 +1,101 @@
+package com.example.employeetracker;
+
+import com.example.employeetracker.domain.Team;
+import com.example.employeetracker.repository.EmployeeRepository;
+import com.example.employeetracker.repository.TeamRepository;
+import com.example.employeetracker.request.EmployeeRequest;
+import com.example.employeetracker.request.TeamFields;
+import com.example.employeetracker.request.TeamRequest;
+import com.example.employeetracker.response.MultiGetResponse;
+import com.example.employeetracker.response.TeamResponse;
+import com.example.employeetracker.serviceinterface.EmployeeService;
+import com.example.employeetracker.serviceinterface.TeamService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Team members are loaded for many teams at once, never with one query per team
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TeamMemberFetchTests {
+
+	private static final int TEAMS = 5;
+
+	@Autowired
+	private TeamService teamService;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private TeamRepository teamRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		for (int team = 0; team < TEAMS; team++) {
+			List<Long> members = new ArrayList<>();
+			for (int member = 0; member < 2; member++) {
+				members.add(employeeService.addEmployee(EmployeeRequest.builder()
+						.personalId("5" + team + member).name("Member " + team + member).build()).id());
+			}
+			teamService.createTeam(new TeamRequest("Team " + team, members, members.get(0)));
+		}
+		// member lists must come from the database, not from the second-level cache
+		entityManagerFactory.getCache().evictAll();
+	}
+
+	@AfterEach
+	void cleanUp() {
+		teamRepository.findAll().forEach(team -> teamService.deleteTeam(team.getId()));
+		employeeRepository.deleteAll();
+	}
+
+	@Test
+	void streamAllTeams_loadsMembersOncePerChunk() {
+		List<TeamResponse> streamed = new ArrayList<>();
+
+		statistics.clear();
+		teamService.streamAllTeams(TeamFields.ALL, streamed::add);
+
+		assertEquals(TEAMS, streamed.size());
+		streamed.forEach(team -> assertEquals(2, team.employees().size()));
+		// the teams with their leads, then the members of all of them
+		assertEquals(2, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	void getTeamsByIds_loadsMembersOnce() {
+		List<Long> ids = teamRepository.findAll().stream().map(Team::getId).toList();
+		entityManagerFactory.getCache().evictAll();
+
+		statistics.clear();
+		List<MultiGetResponse<TeamResponse>> teams = teamService.getTeamsByIds(ids, TeamFields.ALL);
+
+		assertEquals(TEAMS, teams.size());
+		teams.forEach(team -> assertEquals(2, team.item().employees().size()));
+		// the teams, then the members of all of them (leads included)
+		assertEquals(2, statistics.getPrepareStatementCount());
+	}
+}
@@ -4,6 +4,7 @@ import com.example.employeetracker.domain.Employee;
 import com.example.employeetracker.domain.Team;
 import com.example.employeetracker.repository.EmployeeRepository;
 import com.example.employeetracker.repository.TeamRepository;
+import com.example.employeetracker.request.TeamFields;
 import com.example.employeetracker.request.TeamRequest;
 import com.example.employeetracker.response.TeamResponse;
 import com.example.employeetracker.service.TeamServiceImpl;
@@ -18,6 +19,7 @@ import org.springframework.data.jpa.domain.Specification;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -98,20 +100,41 @@ class TeamServiceTest {
     }
 
     @Test
-    void getAllTeams_returnsListOfTeams() {
+    void getTeamById_withSparseFields_doesNotTouchAssociations() {
+        
+        Long teamId = 1L;
+        Team team = Mockito.spy(createMockTeam(teamId, "Engineering", null));
+
+        when(teamRepository.findById(teamId)).thenReturn(Optional.of(team));
+
+        
+        TeamResponse response = teamService.getTeamById(teamId, TeamFields.parse("id,name"));
+
+        
+        assertEquals(teamId, response.id());
+        assertEquals("Engineering", response.name());
+        assertNull(response.teamLead());
+        assertNull(response.employees());
+        verify(team, Mockito.never()).getEmployees();
+        verify(team, Mockito.never()).getTeamLead();
+    }
+
+    @Test
+    void streamAllTeams_passesEveryTeamToConsumer() {
         
         Team team1 = createMockTeam(1L, "Engineering", null);
         Team team2 = createMockTeam(2L, "Marketing", null);
 
-        when(teamRepository.findAll()).thenReturn(List.of(team1, team2));
+        when(teamRepository.streamAllWithLead()).thenReturn(Stream.of(team1, team2));
 
         
-        List<TeamResponse> responses = teamService.getAllTeams();
+        List<TeamResponse> streamed = new ArrayList<>();
+        teamService.streamAllTeams(TeamFields.ALL, streamed::add);
 
         
-        assertEquals(2, responses.size());
-        assertEquals("Engineering", responses.get(0).name());
-        assertEquals("Marketing", responses.get(1).name());
+        assertEquals(2, streamed.size());
+        assertEquals("Engineering", streamed.get(0).name());
+        assertEquals("Marketing", streamed.get(1).name());
     }
 
     @Test
@@ -0,0 +1,133 @@
+package com.example.employeetracker;
+
+import com.example.employeetracker.repository.EmployeeRepository;
+import com.example.employeetracker.repository.TeamRepository;
+import com.example.employeetracker.request.EmployeeRequest;
+import com.example.employeetracker.request.TeamRequest;
+import com.example.employeetracker.serviceinterface.EmployeeService;
+import com.example.employeetracker.serviceinterface.TeamService;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "management.tracing.sampling.probability=1.0")
+@AutoConfigureObservability
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TracingTests {
+
+	@TestConfiguration
+	static class InMemoryExporter {
+
+		@Bean
+		InMemorySpanExporter inMemorySpanExporter() {
+			return InMemorySpanExporter.create();
+		}
+	}
+
+	@Autowired
+	private TeamService teamService;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private TeamRepository teamRepository;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private InMemorySpanExporter exporter;
+
+	@Autowired
+	private SdkTracerProvider tracerProvider;
+
+	@AfterEach
+	void cleanUp() {
+		teamRepository.findAll().forEach(team -> teamService.deleteTeam(team.getId()));
+		employeeRepository.deleteAll();
+	}
+
+	@Test
+	void teamUpdate_isTracedFromRequestToStatements() throws Exception {
+		Long teamId = teamService.createTeam(TeamRequest.builder().teamName("Traced").build()).id();
+		Long first = employeeService.addEmployee(EmployeeRequest.builder().personalId("400001").name("John Doe").build()).id();
+		Long second = employeeService.addEmployee(EmployeeRequest.builder().personalId("400002").name("Jane Doe").build()).id();
+		tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+		exporter.reset();
+
+		mockMvc.perform(put("/api/team/" + teamId)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"employeeIds\": [" + first + ", " + second + "], \"teamLeadId\": " + first + "}"))
+				.andExpect(status().isOk());
+		tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+		List<SpanData> spans = exporter.getFinishedSpanItems();
+
+		SpanData request = span(spans, "http put /api/team/{teamId}");
+		SpanData service = span(spans, "team-service-impl#update-team");
+		// the transaction's connection span opens in between
+		assertTrue(isAncestor(spans, request, service), "service span outside the request span");
+		for (String step : List.of("team.update.find", "team.update.add-employees", "team.update.assign-lead",
+				"team.update.flush", "team.update.map")) {
+			assertEquals(service.getSpanId(), span(spans, step).getParentSpanId(), step);
+		}
+		assertEquals("2", span(spans, "team.update.add-employees").getAttributes().asMap().entrySet().stream()
+				.filter(attribute -> attribute.getKey().getKey().equals("employees.added"))
+				.map(attribute -> String.valueOf(attribute.getValue()))
+				.findFirst()
+				.orElse(null));
+
+		// the flushed updates run on the transaction's connection, whose span started with the first statement
+		SpanData flush = span(spans, "team.update.flush");
+		assertTrue(spans.stream()
+				.filter(span -> span.getName().equals("query"))
+				.filter(span -> span.getAttributes().asMap().keySet().stream()
+						.anyMatch(key -> key.getKey().equals("jdbc.row-affected")))
+				.anyMatch(span -> span.getStartEpochNanos() >= flush.getStartEpochNanos()
+						&& span.getEndEpochNanos() <= flush.getEndEpochNanos()),
+				"no JDBC update with row count inside the flush step: " + spans);
+	}
+
+	private static boolean isAncestor(List<SpanData> spans, SpanData ancestor, SpanData span) {
+		String parentId = span.getParentSpanId();
+		while (!parentId.equals(ancestor.getSpanId())) {
+			String current = parentId;
+			SpanData parent = spans.stream().filter(candidate -> candidate.getSpanId().equals(current)).findFirst().orElse(null);
+			if (parent == null) {
+				return false;
+			}
+			parentId = parent.getParentSpanId();
+		}
+		return true;
+	}
+
+	private static SpanData span(List<SpanData> spans, String name) {
+		return spans.stream()
+				.filter(span -> span.getName().equals(name))
+				.findFirst()
+				.orElseThrow(() -> new AssertionError("no span '" + name + "' in " + spans.stream().map(SpanData::getName).toList()));
+	}
+}
@@ -0,0 +1,127 @@
+package com.example.employeetracker;
+
+import com.example.employeetracker.exception.ResourceNotFoundException;
+import com.example.employeetracker.repository.EmployeeRepository;
+import com.example.employeetracker.repository.TeamRepository;
+import com.example.employeetracker.request.EmployeeRequest;
+import com.example.employeetracker.request.TeamRequest;
+import com.example.employeetracker.response.EmployeeResponse;
+import com.example.employeetracker.service.CoalescingWriteService;
+import com.example.employeetracker.serviceinterface.EmployeeService;
+import com.example.employeetracker.serviceinterface.TeamService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Concurrent creates through the group commit. The wait is long enough for every test caller to join one batch.
+ */
+@SpringBootTest(properties = {
+		"employee-tracker.write-coalescing.enabled=true",
+		"employee-tracker.write-coalescing.max-wait=5s",
+		"employee-tracker.write-coalescing.max-batch-size=4"
+})
+@ActiveProfiles("test")
+class WriteCoalescingTests {
+
+	@Autowired
+	private CoalescingWriteService coalescingWriteService;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private TeamService teamService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private TeamRepository teamRepository;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@AfterEach
+	void cleanUp() {
+		teamRepository.findAll().forEach(team -> teamService.deleteTeam(team.getId()));
+		employeeRepository.deleteAll();
+	}
+
+	@Test
+	void concurrentCreates_shareOneBatch() throws Exception {
+		Long teamId = teamService.createTeam(new TeamRequest("Onboarding", List.of(), null)).id();
+		double batches = counter("groupcommit.batches");
+		double fallbacks = counter("groupcommit.fallbacks");
+
+		List<Future<EmployeeResponse>> results = createConcurrently(List.of(
+				EmployeeRequest.builder().personalId("400001").name("John Doe").teamId(teamId).build(),
+				EmployeeRequest.builder().personalId("400002").name("Jane Doe").teamId(teamId).build(),
+				EmployeeRequest.builder().personalId("400003").name("Jim Doe").teamId(teamId).build(),
+				EmployeeRequest.builder().personalId("400004").name("Joan Doe").build()));
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals(teamId, results.get(i).get(10, TimeUnit.SECONDS).teamId());
+		}
+		assertEquals("400004", results.get(3).get(10, TimeUnit.SECONDS).personalId());
+		assertEquals(3, teamService.getTeamById(teamId).employees().size());
+		assertEquals(1, counter("groupcommit.batches") - batches);
+		assertEquals(0, counter("groupcommit.fallbacks") - fallbacks);
+	}
+
+	@Test
+	void failedBatch_givesEveryCallerItsOwnOutcome() throws Exception {
+		employeeService.addEmployee(EmployeeRequest.builder().personalId("400010").name("John Doe").build());
+		double fallbacks = counter("groupcommit.fallbacks");
+
+		List<Future<EmployeeResponse>> results = createConcurrently(List.of(
+				EmployeeRequest.builder().personalId("400011").name("Jane Doe").build(),
+				EmployeeRequest.builder().personalId("400010").name("Johnny Doe").build(),
+				EmployeeRequest.builder().personalId("400012").name("Jim Doe").teamId(-1L).build(),
+				EmployeeRequest.builder().personalId("400013").name("Joan Doe").build()));
+
+		assertEquals("400011", results.get(0).get(10, TimeUnit.SECONDS).personalId());
+		assertInstanceOf(DataIntegrityViolationException.class, failure(results.get(1)));
+		assertInstanceOf(ResourceNotFoundException.class, failure(results.get(2)));
+		assertEquals("400013", results.get(3).get(10, TimeUnit.SECONDS).personalId());
+		assertEquals(3, employeeRepository.count());
+		assertEquals(1, counter("groupcommit.fallbacks") - fallbacks);
+	}
+
+	private List<Future<EmployeeResponse>> createConcurrently(List<EmployeeRequest> requests) {
+		ExecutorService executor = Executors.newFixedThreadPool(requests.size());
+		try {
+			List<Future<EmployeeResponse>> results = new ArrayList<>();
+			for (EmployeeRequest request : requests) {
+				results.add(executor.submit(() -> coalescingWriteService.addEmployee(request)));
+			}
+			return results;
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private static Throwable failure(Future<?> result) {
+		return assertThrows(ExecutionException.class, () -> result.get(10, TimeUnit.SECONDS)).getCause();
+	}
+
+	private double counter(String name) {
+		return meterRegistry.get(name).tag("name", "employee.create").functionCounter().count();
+	}
+}
@@ -0,0 +1,77 @@
+package com.example.employeetracker.benchmark;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Migrates a local PostgreSQL database and seeds it for {@link WorkloadMixLoadTests} with {@link DatabaseSeeder}:
+ * <pre>
+ * mvn test -Dtest=DatabaseSeedTests -Dseed.jdbc-url=jdbc:postgresql://localhost:5432/employee-tracker \
+ *     -Dseed.username=postgres -Dseed.password=password
+ * </pre>
+ * {@code seed.tenants} (default 2), {@code seed.employees} per tenant (default 900000), {@code seed.teams}
+ * per tenant (default 5000), {@code seed.skew} (default 1.1) and {@code seed.random-seed} change the shape.
+ * Prints how the members are spread over the teams.
+ */
+@EnabledIfSystemProperty(named = "seed.jdbc-url", matches = ".+")
+class DatabaseSeedTests {
+
+    private static final String URL = System.getProperty("seed.jdbc-url");
+    private static final String USERNAME = System.getProperty("seed.username", "postgres");
+    private static final String PASSWORD = System.getProperty("seed.password", "password");
+
+    @Test
+    void seed() throws SQLException {
+        DatabaseSeeder.Plan plan = new DatabaseSeeder.Plan(
+                Integer.getInteger("seed.tenants", 2),
+                Integer.getInteger("seed.employees", 900_000),
+                Integer.getInteger("seed.teams", 5_000),
+                Double.parseDouble(System.getProperty("seed.skew", "1.1")),
+                2,
+                Long.getLong("seed.random-seed", 42L));
+        Flyway.configure().dataSource(URL, USERNAME, PASSWORD).load().migrate();
+
+        try (Connection connection = DriverManager.getConnection(URL, USERNAME, PASSWORD)) {
+            long start = System.nanoTime();
+            new DatabaseSeeder(connection).seed(plan);
+            System.out.printf("seeded %d employees in %d teams in %d s%n",
+                    (long) plan.tenants() * plan.employeesPerTenant(), (long) plan.tenants() * plan.teamsPerTenant(),
+                    (System.nanoTime() - start) / 1_000_000_000);
+
+            try (Statement statement = connection.createStatement()) {
+                assertEquals((long) plan.tenants() * plan.employeesPerTenant(),
+                        count(statement, "select count(*) from employees"));
+                printTeamSizes(statement);
+            }
+        }
+    }
+
+    private static long count(Statement statement, String sql) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static void printTeamSizes(Statement statement) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery("""
+                select max(size), percentile_disc(0.99) within group (order by size),
+                       percentile_disc(0.5) within group (order by size), min(size)
+                from (select count(e.id) as size from teams t left join employees e on e.team_id = t.id
+                      where t.tenant_id = 'default' group by t.id) sizes
+                """)) {
+            resultSet.next();
+            System.out.printf("team sizes in tenant default: max=%d p99=%d median=%d min=%d%n",
+                    resultSet.getLong(1), resultSet.getLong(2), resultSet.getLong(3), resultSet.getLong(4));
+        }
+    }
+}
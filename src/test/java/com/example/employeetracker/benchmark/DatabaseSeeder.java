@@ -0,0 +1,166 @@
+package com.example.employeetracker.benchmark;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.SplittableRandom;
+
+/**
+ * Fills a migrated PostgreSQL database with generated teams and employees through {@code COPY},
+ * which loads a million rows in seconds where batched inserts take minutes.
+ * <p>
+ * Every tenant gets the same shape: teams named {@code Team 00001...}, employees named {@code Employee <n>}
+ * with personal IDs counting up from {@code 000000}, assigned to teams by {@link SkewedTeams}.
+ * The lowest member of each team leads it, and every assignment gets an open membership history row.
+ * Existing employees, teams and history are truncated first. The same random seed gives the same data.
+ *
+ * @see DatabaseSeedTests
+ */
+final class DatabaseSeeder {
+
+    /**
+     * Personal IDs have six digits, so that is the most employees one tenant can have
+     */
+    static final int MAX_EMPLOYEES_PER_TENANT = 1_000_000;
+
+    private static final int FLUSH_BYTES = 1 << 20;
+
+    /**
+     * @param tenants            Tenants {@code default}, {@code tenant-2}, {@code tenant-3}...
+     * @param employeesPerTenant Employees per tenant; leave room below a million for the workload to add more
+     * @param teamsPerTenant     Teams per tenant
+     * @param skew               {@link SkewedTeams} exponent
+     * @param unassignedPercent  Share of employees without a team
+     * @param randomSeed         Seed of the generator
+     */
+    record Plan(int tenants, int employeesPerTenant, int teamsPerTenant, double skew,
+                int unassignedPercent, long randomSeed) {
+
+        Plan {
+            if (employeesPerTenant > MAX_EMPLOYEES_PER_TENANT) {
+                throw new IllegalArgumentException("At most " + MAX_EMPLOYEES_PER_TENANT
+                        + " employees per tenant fit six digit personal IDs, use more tenants instead");
+            }
+        }
+
+        static String tenant(int index) {
+            return index == 0 ? "default" : "tenant-" + (index + 1);
+        }
+
+        long teamId(int tenant, int team) {
+            return (long) tenant * teamsPerTenant + team;
+        }
+
+        long employeeId(int tenant, int employee) {
+            return (long) tenant * employeesPerTenant + employee + 1;
+        }
+    }
+
+    private final Connection connection;
+
+    DatabaseSeeder(Connection connection) {
+        this.connection = connection;
+    }
+
+    void seed(Plan plan) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("truncate team_membership_history, employees, teams restart identity cascade");
+            copyTeams(plan);
+            copyEmployees(plan);
+            statement.execute("select setval(pg_get_serial_sequence('teams', 'id'), max(id)) from teams");
+            statement.execute("select setval(pg_get_serial_sequence('employees', 'id'), max(id)) from employees");
+            statement.execute("""
+                    update teams t set team_lead_id = l.id
+                    from (select team_id, min(id) as id from employees where team_id is not null group by team_id) l
+                    where l.team_id = t.id
+                    """);
+            statement.execute("""
+                    insert into team_membership_history (tenant_id, employee_id, team_id, role, valid_from)
+                    select tenant_id, id, team_id, 'MEMBER', now() from employees where team_id is not null
+                    """);
+            statement.execute("""
+                    insert into team_membership_history (tenant_id, employee_id, team_id, role, valid_from)
+                    select tenant_id, team_lead_id, id, 'LEAD', now() from teams where team_lead_id is not null
+                    """);
+            connection.commit();
+            statement.execute("analyze teams");
+            statement.execute("analyze employees");
+            statement.execute("analyze team_membership_history");
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void copyTeams(Plan plan) throws SQLException {
+        CopyWriter copy = new CopyWriter("copy teams (id, tenant_id, name, version) from stdin");
+        for (int tenant = 0; tenant < plan.tenants(); tenant++) {
+            for (int team = 1; team <= plan.teamsPerTenant(); team++) {
+                copy.row(plan.teamId(tenant, team), Plan.tenant(tenant), String.format("Team %05d", team), 0);
+            }
+        }
+        copy.end();
+    }
+
+    private void copyEmployees(Plan plan) throws SQLException {
+        SkewedTeams teams = new SkewedTeams(plan.teamsPerTenant(), plan.skew());
+        SplittableRandom random = new SplittableRandom(plan.randomSeed());
+        CopyWriter copy = new CopyWriter("copy employees (id, tenant_id, personal_id, name, team_id, version) from stdin");
+        for (int tenant = 0; tenant < plan.tenants(); tenant++) {
+            for (int employee = 0; employee < plan.employeesPerTenant(); employee++) {
+                Object teamId = random.nextInt(100) < plan.unassignedPercent()
+                        ? null
+                        : plan.teamId(tenant, teams.next(random));
+                copy.row(plan.employeeId(tenant, employee), Plan.tenant(tenant), String.format("%06d", employee),
+                        "Employee " + employee, teamId, 0);
+            }
+        }
+        copy.end();
+    }
+
+    /**
+     * Streams rows in COPY's text format, a megabyte at a time
+     */
+    private class CopyWriter {
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(FLUSH_BYTES + 1024);
+
+        CopyWriter(String sql) throws SQLException {
+            this.copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+        }
+
+        void row(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.append('\t');
+                }
+                // generated values contain no tabs, newlines or backslashes that would need escaping
+                buffer.append(values[i] == null ? "\\N" : values[i]);
+            }
+            buffer.append('\n');
+            if (buffer.length() >= FLUSH_BYTES) {
+                flush();
+            }
+        }
+
+        void end() throws SQLException {
+            flush();
+            copyIn.endCopy();
+        }
+
+        private void flush() throws SQLException {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.employeetracker.benchmark;
+
+import com.example.employeetracker.domain.Employee;
+import com.example.employeetracker.domain.Team;
+import com.example.employeetracker.mapper.EmployeeMapper;
+import com.example.employeetracker.response.EmployeeResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the old builder-per-element stream mapping with the direct and parallel mapping in {@link EmployeeMapper}.
+ * <p>
+ * Run with {@code mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ * -Dexec.args="-cp %classpath com.example.employeetracker.benchmark.MapperBenchmark"};
+ * any JMH command line options (e.g. {@code -p size=10000}) can be appended to {@code exec.args}.
+ * The parallel path only kicks in with more than one spare core.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"200", "10000", "2000000"})
+    private int size;
+
+    private List<Employee> employees;
+
+    @Setup
+    public void setUp() {
+        Team team = new Team();
+        team.setId(1L);
+        employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Employee employee = new Employee();
+            employee.setId((long) i);
+            employee.setPersonalId(String.valueOf(100_000 + i));
+            employee.setName("Employee " + i);
+            employee.setTeam(team);
+            employees.add(employee);
+        }
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> builderStream() {
+        return employees.stream()
+                .map(employee -> EmployeeResponse.builder()
+                        .id(employee.getId())
+                        .personalId(employee.getPersonalId())
+                        .name(employee.getName())
+                        .teamId(employee.getTeam() != null ? employee.getTeam().getId() : null)
+                        .build())
+                .toList();
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> directSequential() {
+        List<EmployeeResponse> responses = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            responses.add(EmployeeMapper.toResponse(employee));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> mapper() {
+        return EmployeeMapper.toResponses(employees);
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(MapperBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.employeetracker.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Puts the same number of concurrent readers on the blocking and the reactive list endpoints of a running
+ * instance and prints throughput and latency percentiles for each.
+ * <p>
+ * Start the application against PostgreSQL with {@code employee-tracker.reactive.enabled=true},
+ * {@code employee-tracker.rate-limit.enabled=false} and {@code server.tomcat.max-connections} above the reader count,
+ * then run {@code mvn test -Dtest=ReactiveReadLoadTests -Dloadtest.base-url=http://localhost:8080}.
+ * {@code loadtest.readers} (default 10000) and {@code loadtest.path} (default {@code /employee}) tune the run.
+ */
+@EnabledIfSystemProperty(named = "loadtest.base-url", matches = ".+")
+class ReactiveReadLoadTests {
+
+    private static final String BASE_URL = System.getProperty("loadtest.base-url");
+    private static final int READERS = Integer.getInteger("loadtest.readers", 10_000);
+    private static final String PATH = System.getProperty("loadtest.path", "/employee");
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+
+    @Test
+    void blockingVersusReactiveReads() {
+        // warm both paths up before measuring
+        run("/api" + PATH, "application/json", 100);
+        run("/api/reactive" + PATH, "application/x-ndjson", 100);
+
+        Result blocking = run("/api" + PATH, "application/json", READERS);
+        Result reactive = run("/api/reactive" + PATH, "application/x-ndjson", READERS);
+
+        System.out.printf("%-9s readers=%d %s%n", "blocking", READERS, blocking);
+        System.out.printf("%-9s readers=%d %s%n", "reactive", READERS, reactive);
+        assertEquals(0, reactive.failures());
+    }
+
+    private Result run(String path, String accept, int readers) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(BASE_URL + path))
+                .header("Accept", accept)
+                .timeout(Duration.ofMinutes(2))
+                .build();
+        long[] latencies = new long[readers];
+        AtomicInteger failures = new AtomicInteger();
+        CompletableFuture<?>[] calls = new CompletableFuture<?>[readers];
+
+        long start = System.nanoTime();
+        for (int i = 0; i < readers; i++) {
+            int reader = i;
+            long sent = System.nanoTime();
+            calls[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, failure) -> {
+                        latencies[reader] = System.nanoTime() - sent;
+                        if (failure != null || response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                        return null;
+                    });
+        }
+        CompletableFuture.allOf(calls).join();
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        return new Result(
+                readers * 1_000_000_000.0 / elapsed,
+                latencies[readers / 2] / 1_000_000,
+                latencies[(int) (readers * 0.99) - 1] / 1_000_000,
+                failures.get()
+        );
+    }
+
+    private record Result(double requestsPerSecond, long p50Millis, long p99Millis, int failures) {
+
+        @Override
+        public String toString() {
+            return String.format("throughput=%.0f req/s p50=%d ms p99=%d ms failures=%d",
+                    requestsPerSecond, p50Millis, p99Millis, failures);
+        }
+    }
+}
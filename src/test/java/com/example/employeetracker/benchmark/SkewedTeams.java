@@ -0,0 +1,38 @@
+package com.example.employeetracker.benchmark;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Picks teams with a Zipf distribution: team 1 is the largest, team 2 half its size (for exponent 1) and so on,
+ * so there are a few giant teams and a long tail of small ones. The seeder uses it to assign members and the
+ * workload to choose which teams to read, so the hot teams are the big ones, as in production.
+ */
+final class SkewedTeams {
+
+    private final double[] cumulative;
+
+    /**
+     * @param teams    Number of teams, numbered from 1
+     * @param exponent Zipf exponent, 0 spreads evenly, around 1 gives a handful of teams with thousands of members
+     */
+    SkewedTeams(int teams, double exponent) {
+        cumulative = new double[teams];
+        double sum = 0;
+        for (int rank = 1; rank <= teams; rank++) {
+            sum += 1 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < teams; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    /**
+     * @return A team number between 1 and the number of teams
+     */
+    int next(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min((index >= 0 ? index : -index - 1) + 1, cumulative.length);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.employeetracker.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SkewedTeamsTests {
+
+    @Test
+    void fewTeamsAreGiant_mostAreSmall() {
+        SkewedTeams teams = new SkewedTeams(5_000, 1.1);
+        SplittableRandom random = new SplittableRandom(42);
+        int[] sizes = new int[5_001];
+        for (int i = 0; i < 1_000_000; i++) {
+            int team = teams.next(random);
+            assertTrue(team >= 1 && team <= 5_000);
+            sizes[team]++;
+        }
+
+        assertTrue(sizes[1] > 80_000, "largest team has " + sizes[1]);
+        assertTrue(sizes[2500] < 100, "median team has " + sizes[2500]);
+    }
+
+    @Test
+    void zeroExponent_spreadsEvenly() {
+        SkewedTeams teams = new SkewedTeams(4, 0);
+        SplittableRandom random = new SplittableRandom(42);
+        int[] sizes = new int[5];
+        for (int i = 0; i < 100_000; i++) {
+            sizes[teams.next(random)]++;
+        }
+
+        for (int team = 1; team <= 4; team++) {
+            assertEquals(25_000, sizes[team], 1_000);
+        }
+    }
+}
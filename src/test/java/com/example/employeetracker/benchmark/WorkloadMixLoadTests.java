@@ -0,0 +1,271 @@
+package com.example.employeetracker.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs a fixed mix of reads and writes against the employee and team endpoints of a running instance,
+ * seeded by {@link DatabaseSeedTests}, and reports throughput and latency percentiles per operation.
+ * <p>
+ * Start the application against the seeded database with {@code employee-tracker.rate-limit.enabled=false}, then run
+ * <pre>
+ * mvn test -Dtest=WorkloadMixLoadTests -Dloadtest.base-url=http://localhost:8080
+ * </pre>
+ * {@code loadtest.users} (default 64) simulated users send requests back to back for {@code loadtest.duration}
+ * (default PT60S) after {@code loadtest.warmup} (default PT15S). {@code loadtest.employees}, {@code loadtest.teams}
+ * and {@code loadtest.skew} must match the seed. The report is also written to {@code target/loadtest/} as CSV,
+ * so runs before and after a change can be compared. Fails if any request got a 5xx or no response.
+ */
+@EnabledIfSystemProperty(named = "loadtest.base-url", matches = ".+")
+class WorkloadMixLoadTests {
+
+    private static final String BASE_URL = System.getProperty("loadtest.base-url");
+    private static final int USERS = Integer.getInteger("loadtest.users", 64);
+    private static final Duration DURATION = Duration.parse(System.getProperty("loadtest.duration", "PT60S"));
+    private static final Duration WARMUP = Duration.parse(System.getProperty("loadtest.warmup", "PT15S"));
+    private static final int EMPLOYEES = Integer.getInteger("loadtest.employees", 900_000);
+    private static final int TEAMS = Integer.getInteger("loadtest.teams", 5_000);
+    private static final double SKEW = Double.parseDouble(System.getProperty("loadtest.skew", "1.1"));
+
+    /**
+     * Share of each operation in the mix, in percent
+     */
+    private enum Operation {
+        GET_EMPLOYEE(35),
+        GET_EMPLOYEES_MULTI(10),
+        SEARCH_EMPLOYEES(5),
+        GET_TEAM(15),
+        GET_TEAM_WITH_MEMBERS(5),
+        SEARCH_TEAMS(5),
+        ADD_EMPLOYEE(8),
+        ADD_EMPLOYEES_BATCH(2),
+        MOVE_EMPLOYEE(15);
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final SkewedTeams skewedTeams = new SkewedTeams(TEAMS, SKEW);
+    private final Operation[] mix = Arrays.stream(Operation.values())
+            .flatMap(operation -> IntStream.range(0, operation.weight).mapToObj(i -> operation))
+            .toArray(Operation[]::new);
+    // new personal IDs count up from the seeded ones, starting somewhere random so repeated runs rarely collide
+    private final AtomicInteger nextPersonalId = new AtomicInteger(
+            EMPLOYEES + ThreadLocalRandom.current().nextInt(Math.max(1, DatabaseSeeder.MAX_EMPLOYEES_PER_TENANT - EMPLOYEES)));
+
+    @Test
+    void workloadMix() throws Exception {
+        assertEquals(100, mix.length, "operation weights must add up to 100");
+
+        run(WARMUP);
+        Map<Operation, Latencies> results = run(DURATION);
+
+        String report = report(results);
+        System.out.print(report);
+        Path file = Path.of("target", "loadtest",
+                "workload-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".csv");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, csv(results));
+        System.out.println("written to " + file);
+
+        assertEquals(0, results.values().stream().mapToInt(latencies -> latencies.failures).sum(),
+                "requests answered with 5xx or not at all");
+    }
+
+    private Map<Operation, Latencies> run(Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService users = Executors.newFixedThreadPool(USERS);
+        try {
+            List<Future<Map<Operation, Latencies>>> perUser = new ArrayList<>();
+            for (int user = 0; user < USERS; user++) {
+                long seed = ThreadLocalRandom.current().nextLong();
+                perUser.add(users.submit(() -> user(new SplittableRandom(seed), deadline)));
+            }
+            Map<Operation, Latencies> merged = new EnumMap<>(Operation.class);
+            for (Future<Map<Operation, Latencies>> user : perUser) {
+                user.get().forEach((operation, latencies) ->
+                        merged.computeIfAbsent(operation, key -> new Latencies()).addAll(latencies));
+            }
+            merged.values().forEach(latencies -> latencies.elapsedNanos = duration.toNanos());
+            return merged;
+        } finally {
+            users.shutdownNow();
+        }
+    }
+
+    private Map<Operation, Latencies> user(SplittableRandom random, long deadline) throws InterruptedException {
+        Map<Operation, Latencies> latencies = new EnumMap<>(Operation.class);
+        while (System.nanoTime() < deadline) {
+            Operation operation = mix[random.nextInt(mix.length)];
+            HttpRequest request = request(operation, random);
+            long start = System.nanoTime();
+            int status;
+            try {
+                status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException e) {
+                status = -1;
+            }
+            latencies.computeIfAbsent(operation, key -> new Latencies()).add(System.nanoTime() - start, status);
+        }
+        return latencies;
+    }
+
+    private HttpRequest request(Operation operation, SplittableRandom random) {
+        return switch (operation) {
+            case GET_EMPLOYEE -> get("/api/employee/" + employeeId(random));
+            case GET_EMPLOYEES_MULTI -> get("/api/employee/multi?ids=" + IntStream.range(0, 20)
+                    .mapToObj(i -> String.valueOf(employeeId(random)))
+                    .collect(Collectors.joining(",")));
+            case SEARCH_EMPLOYEES -> get("/api/employee/search?name=Employee%20" + random.nextInt(EMPLOYEES));
+            // hot teams are the big ones, so plain team reads leave the member list out
+            case GET_TEAM -> get("/api/team/" + skewedTeams.next(random) + "?fields=id,name,teamLead");
+            case GET_TEAM_WITH_MEMBERS -> get("/api/team/" + (1 + random.nextInt(TEAMS)));
+            case SEARCH_TEAMS -> get("/api/team/search?teamName=team%20" + String.format("%04d", random.nextInt(TEAMS / 10 + 1))
+                    + "&fields=id,name");
+            case ADD_EMPLOYEE -> send("POST", "/api/employee", newEmployee(random));
+            case ADD_EMPLOYEES_BATCH -> send("POST", "/api/employee/batch", IntStream.range(0, 50)
+                    .mapToObj(i -> newEmployee(random))
+                    .collect(Collectors.joining(",", "[", "]")));
+            case MOVE_EMPLOYEE -> send("PUT", "/api/employee/" + employeeId(random),
+                    "{\"teamId\": " + skewedTeams.next(random) + "}");
+        };
+    }
+
+    private String newEmployee(SplittableRandom random) {
+        int personalId = nextPersonalId.getAndIncrement() % DatabaseSeeder.MAX_EMPLOYEES_PER_TENANT;
+        return String.format("{\"personalId\": \"%06d\", \"name\": \"Load %d\", \"teamId\": %d}",
+                personalId, personalId, skewedTeams.next(random));
+    }
+
+    private static long employeeId(SplittableRandom random) {
+        return 1 + random.nextInt(EMPLOYEES);
+    }
+
+    private static HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(BASE_URL + path))
+                .timeout(Duration.ofSeconds(30))
+                .build();
+    }
+
+    private static HttpRequest send(String method, String path, String json) {
+        return HttpRequest.newBuilder(URI.create(BASE_URL + path))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .method(method, HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private static String report(Map<Operation, Latencies> results) {
+        StringBuilder report = new StringBuilder(String.format("users=%d duration=%s%n%-22s %8s %9s %8s %8s %8s %8s %8s %6s %6s%n",
+                USERS, DURATION, "operation", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "4xx", "fail"));
+        Latencies total = new Latencies();
+        total.elapsedNanos = DURATION.toNanos();
+        results.forEach((operation, latencies) -> {
+            report.append(latencies.format(operation.name()));
+            total.addAll(latencies);
+        });
+        return report.append(total.format("TOTAL")).toString();
+    }
+
+    private static String csv(Map<Operation, Latencies> results) {
+        StringBuilder csv = new StringBuilder("operation,requests,requests_per_second,p50_ms,p90_ms,p99_ms,p999_ms,max_ms,client_errors,failures\n");
+        results.forEach((operation, latencies) -> csv.append(String.format("%s,%d,%.1f,%.2f,%.2f,%.2f,%.2f,%.2f,%d,%d%n",
+                operation.name(), latencies.count, latencies.requestsPerSecond(),
+                latencies.percentileMillis(0.5), latencies.percentileMillis(0.9), latencies.percentileMillis(0.99),
+                latencies.percentileMillis(0.999), latencies.percentileMillis(1), latencies.clientErrors, latencies.failures)));
+        return csv.toString();
+    }
+
+    /**
+     * Latencies of one operation, recorded by one user and later merged
+     */
+    private static final class Latencies {
+
+        private long[] nanos = new long[1024];
+        private int count;
+        private int clientErrors;
+        private int failures;
+        private long elapsedNanos;
+        private boolean sorted;
+
+        void add(long latency, int status) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = latency;
+            sorted = false;
+            if (status < 0 || status >= 500) {
+                failures++;
+            } else if (status >= 400) {
+                // e.g. a generated personal ID that is already taken
+                clientErrors++;
+            }
+        }
+
+        void addAll(Latencies other) {
+            if (count + other.count > nanos.length) {
+                nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, count + other.count));
+            }
+            System.arraycopy(other.nanos, 0, nanos, count, other.count);
+            count += other.count;
+            clientErrors += other.clientErrors;
+            failures += other.failures;
+            sorted = false;
+        }
+
+        double requestsPerSecond() {
+            return count * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        double percentileMillis(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            if (!sorted) {
+                Arrays.sort(nanos, 0, count);
+                sorted = true;
+            }
+            int index = (int) Math.ceil(percentile * count) - 1;
+            return nanos[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        String format(String operation) {
+            return String.format("%-22s %8d %9.1f %8.1f %8.1f %8.1f %8.1f %8.1f %6d %6d%n", operation, count,
+                    requestsPerSecond(), percentileMillis(0.5), percentileMillis(0.9), percentileMillis(0.99),
+                    percentileMillis(0.999), percentileMillis(1), clientErrors, failures);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.employeetracker.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ApiClientsTests {
+
+    @Test
+    void authenticate_resolvesOnlyConfiguredKeys() {
+        ApiClients clients = new ApiClients(properties("portal", "portal-key"));
+
+        assertEquals(Optional.of(new ApiClient("portal", null)), clients.authenticate(request("portal-key")));
+        assertEquals(Optional.empty(), clients.authenticate(request("guessed-key")));
+        assertEquals(Optional.empty(), clients.authenticate(new MockHttpServletRequest()));
+    }
+
+    @Test
+    void constructor_rejectsSharedKeys() {
+        ApiClientProperties properties = properties("portal", "same-key");
+        properties.getClients().put("importer", properties.getClients().get("portal"));
+
+        assertThrows(IllegalStateException.class, () -> new ApiClients(properties));
+    }
+
+    private static ApiClientProperties properties(String name, String key) {
+        ApiClientProperties.Client client = new ApiClientProperties.Client();
+        client.setKey(key);
+        ApiClientProperties properties = new ApiClientProperties();
+        properties.getClients().put(name, client);
+        return properties;
+    }
+
+    private static MockHttpServletRequest request(String key) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Api-Key", key);
+        return request;
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.employeetracker.concurrency;
+
+import com.example.employeetracker.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GroupCommitTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void submit_writesConcurrentItemsAsOneBatch() throws Exception {
+        AtomicInteger batchWrites = new AtomicInteger();
+        int callers = 8;
+        // a full batch is written right away, so the long wait is never paid
+        GroupCommit<String, Integer, String> commit = new GroupCommit<>("test", callers, Duration.ofSeconds(30),
+                items -> {
+                    batchWrites.incrementAndGet();
+                    return items.stream().map(item -> "batched-" + item).toList();
+                },
+                item -> "single-" + item,
+                meterRegistry);
+
+        List<String> results = submitConcurrently(commit, callers, i -> "tenant");
+
+        for (int i = 0; i < callers; i++) {
+            assertEquals("batched-" + i, results.get(i));
+        }
+        assertEquals(1, batchWrites.get());
+        assertEquals(callers, meterRegistry.get("groupcommit.items").functionCounter().count());
+        assertEquals(1, meterRegistry.get("groupcommit.batches").functionCounter().count());
+    }
+
+    @Test
+    void submit_aloneUsesTheSingleWriteAfterWaiting() {
+        GroupCommit<String, Integer, String> commit = new GroupCommit<>("test", 8, Duration.ofMillis(1),
+                items -> {
+                    throw new AssertionError("a batch of one is written on its own");
+                },
+                item -> "single-" + item,
+                meterRegistry);
+
+        assertEquals("single-1", commit.submit("tenant", 1));
+        assertEquals("single-2", commit.submit("tenant", 2));
+        assertEquals(2, meterRegistry.get("groupcommit.batches").functionCounter().count());
+    }
+
+    @Test
+    void submit_failedBatchGivesEveryCallerItsOwnOutcome() throws Exception {
+        int callers = 4;
+        GroupCommit<String, Integer, String> commit = new GroupCommit<>("test", callers, Duration.ofSeconds(30),
+                items -> {
+                    throw new IllegalStateException("batch rolled back");
+                },
+                item -> {
+                    if (item == 2) {
+                        throw new ResourceNotFoundException("Team", 2L);
+                    }
+                    return "single-" + item;
+                },
+                meterRegistry);
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                int item = i;
+                futures.add(executor.submit(() -> commit.submit("tenant", item)));
+            }
+            for (int i = 0; i < callers; i++) {
+                Future<String> future = futures.get(i);
+                if (i == 2) {
+                    ExecutionException failure = assertThrows(ExecutionException.class,
+                            () -> future.get(5, TimeUnit.SECONDS));
+                    assertInstanceOf(ResourceNotFoundException.class, failure.getCause());
+                } else {
+                    assertEquals("single-" + i, future.get(5, TimeUnit.SECONDS));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, meterRegistry.get("groupcommit.fallbacks").functionCounter().count());
+    }
+
+    @Test
+    void submit_neverMixesGroups() throws Exception {
+        List<List<Integer>> batches = new ArrayList<>();
+        int callers = 4;
+        GroupCommit<String, Integer, Integer> commit = new GroupCommit<>("test", callers / 2, Duration.ofSeconds(30),
+                items -> {
+                    synchronized (batches) {
+                        batches.add(List.copyOf(items));
+                    }
+                    return items;
+                },
+                item -> item,
+                meterRegistry);
+
+        submitConcurrently(commit, callers, i -> "tenant-" + i % 2);
+
+        assertEquals(2, batches.size());
+        for (List<Integer> batch : batches) {
+            assertEquals(batch.get(0) % 2, batch.get(1) % 2);
+        }
+    }
+
+    /**
+     * Caller i submits item i
+     */
+    private static <R> List<R> submitConcurrently(GroupCommit<String, Integer, R> commit, int callers,
+                                                  Function<Integer, String> group) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<R>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> commit.submit(group.apply(index), index)));
+            }
+            List<R> results = new ArrayList<>();
+            for (Future<R> future : futures) {
+                results.add(future.get(5, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.employeetracker.concurrency;
+
+import com.example.employeetracker.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void execute_sharesOneLoadBetweenConcurrentCallers() throws Exception {
+        SingleFlight<Long, String> flight = new SingleFlight<>("test", meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> flight.execute(1L, () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "team-1";
+                })));
+            }
+            // everyone except the loader has joined its flight before we let it finish
+            while (meterRegistry.get("singleflight.shared").functionCounter().count() < callers - 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("team-1", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(callers - 1, meterRegistry.get("singleflight.shared").functionCounter().count());
+        assertEquals((double) (callers - 1) / callers,
+                meterRegistry.get("singleflight.coalescing.ratio").gauge().value(), 1e-9);
+    }
+
+    @Test
+    void execute_loadsAgainOnceThePreviousLoadFinished() {
+        SingleFlight<Long, Integer> flight = new SingleFlight<>("test", meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+
+        flight.execute(1L, loads::incrementAndGet);
+        flight.execute(1L, loads::incrementAndGet);
+
+        assertEquals(2, loads.get());
+        assertEquals(0, flight.coalescingRatio());
+    }
+
+    @Test
+    void execute_passesTheLoaderExceptionToTheCaller() {
+        SingleFlight<Long, String> flight = new SingleFlight<>("test", meterRegistry);
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> flight.execute(1L, () -> {
+                    throw new ResourceNotFoundException("Team", 1L);
+                }));
+        // a failed load is not remembered
+        assertEquals("ok", flight.execute(1L, () -> "ok"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
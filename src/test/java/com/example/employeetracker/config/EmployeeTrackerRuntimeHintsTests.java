@@ -0,0 +1,51 @@
+package com.example.employeetracker.config;
+
+import com.example.employeetracker.domain.Employee;
+import com.example.employeetracker.domain.MembershipHistory;
+import com.example.employeetracker.domain.Team;
+import com.example.employeetracker.history.PeriodFunctionContributor;
+import com.example.employeetracker.response.MultiGetResponse;
+import com.example.employeetracker.response.TeamResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmployeeTrackerRuntimeHintsTests {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    EmployeeTrackerRuntimeHintsTests() {
+        new EmployeeTrackerRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void entitiesAreReachableByFieldName() throws NoSuchFieldException {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Employee.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onField(Team.class.getDeclaredField("name")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onField(MembershipHistory.class.getDeclaredField("validTo"))
+                .test(hints));
+    }
+
+    @Test
+    void indirectlySerialisedRecordsAreBound() throws NoSuchMethodException {
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(TeamResponse.class.getMethod("employees")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(MultiGetResponse.class.getMethod("found")).test(hints));
+    }
+
+    @Test
+    void ehcacheConfigurationIsIncluded() {
+        assertTrue(RuntimeHintsPredicates.resource().forResource("ehcache.xml").test(hints));
+    }
+
+    @Test
+    void hqlFunctionsAreLoadable() {
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/services/org.hibernate.boot.model.FunctionContributor").test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(PeriodFunctionContributor.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS).test(hints));
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.employeetracker.idempotency;
+
+import com.example.employeetracker.domain.IdempotencyRecord;
+import com.example.employeetracker.domain.IdempotencyStatus;
+import com.example.employeetracker.repository.IdempotencyRecordRepository;
+import com.example.employeetracker.request.EmployeeRequest;
+import com.example.employeetracker.response.EmployeeResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTests {
+
+    private static final String KEY = "default POST /api/employee abc";
+
+    @Mock
+    private IdempotencyRecordRepository repository;
+
+    private IdempotencyService idempotencyService;
+
+    private final EmployeeRequest request = EmployeeRequest.builder()
+            .personalId("123456")
+            .name("John Doe")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(repository, new IdempotencyProperties(), new ObjectMapper(),
+                mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void execute_withoutKey_alwaysRunsAction() {
+        AtomicInteger runs = new AtomicInteger();
+
+        idempotencyService.execute("POST /api/employee", null, request, new TypeReference<EmployeeResponse>() {},
+                () -> response(runs.incrementAndGet()));
+
+        assertEquals(1, runs.get());
+        verify(repository, never()).claim(anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    void execute_retryWithSameKey_replaysStoredResponse() {
+        ArgumentCaptor<String> requestHash = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> responseBody = ArgumentCaptor.forClass(String.class);
+        when(repository.claim(eq(KEY), requestHash.capture(), any(), any())).thenReturn(1, 0);
+        AtomicInteger runs = new AtomicInteger();
+
+        EmployeeResponse first = idempotencyService.execute("POST /api/employee", "abc", request,
+                new TypeReference<>() {}, () -> response(runs.incrementAndGet()));
+        verify(repository).complete(eq(KEY), responseBody.capture());
+
+        when(repository.findById(KEY)).thenReturn(Optional.of(
+                stored(requestHash.getValue(), IdempotencyStatus.COMPLETED, responseBody.getValue())));
+        EmployeeResponse retry = idempotencyService.execute("POST /api/employee", "abc", request,
+                new TypeReference<>() {}, () -> response(runs.incrementAndGet()));
+
+        assertEquals(1, runs.get());
+        assertEquals(first, retry);
+    }
+
+    @Test
+    void execute_sameKeyDifferentRequest_isRejected() {
+        when(repository.claim(eq(KEY), anyString(), any(), any())).thenReturn(0);
+        when(repository.findById(KEY)).thenReturn(Optional.of(
+                stored("another request", IdempotencyStatus.COMPLETED, "{}")));
+
+        assertThrows(IllegalArgumentException.class, () -> idempotencyService.execute("POST /api/employee", "abc",
+                request, new TypeReference<EmployeeResponse>() {}, () -> response(2)));
+    }
+
+    @Test
+    void execute_keyStillInProgress_isRejectedWithoutRunning() {
+        AtomicInteger runs = new AtomicInteger();
+        ArgumentCaptor<String> requestHash = ArgumentCaptor.forClass(String.class);
+        when(repository.claim(eq(KEY), requestHash.capture(), any(), any())).thenReturn(0);
+        when(repository.findById(KEY)).thenAnswer(invocation -> Optional.of(
+                stored(requestHash.getValue(), IdempotencyStatus.IN_PROGRESS, null)));
+
+        assertThrows(IllegalStateException.class, () -> idempotencyService.execute("POST /api/employee", "abc",
+                request, new TypeReference<EmployeeResponse>() {}, () -> response(runs.incrementAndGet())));
+        assertEquals(0, runs.get());
+    }
+
+    private static IdempotencyRecord stored(String requestHash, IdempotencyStatus status, String responseBody) {
+        Instant now = Instant.now();
+        return new IdempotencyRecord(KEY, requestHash, status, responseBody, now, now.plusSeconds(60));
+    }
+
+    private static EmployeeResponse response(long id) {
+        return new EmployeeResponse(id, "123456", "John Doe", null);
+    }
+}
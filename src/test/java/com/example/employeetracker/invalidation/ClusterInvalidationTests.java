@@ -0,0 +1,116 @@
+package com.example.employeetracker.invalidation;
+
+import com.example.employeetracker.EmployeeTrackerApplication;
+import com.example.employeetracker.request.EmployeeRequest;
+import com.example.employeetracker.request.EmployeeUpdateRequest;
+import com.example.employeetracker.request.TeamRequest;
+import com.example.employeetracker.serviceinterface.EmployeeService;
+import com.example.employeetracker.serviceinterface.TeamService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Two application instances on one PostgreSQL database, each with its own second-level cache. A change made
+ * through one must become visible through the other, which has the old state cached.
+ * <p>
+ * Needs a PostgreSQL database, so it only runs when pointed at one:
+ * <pre>
+ * mvn test -Dtest=ClusterInvalidationTests \
+ *     -Dinvalidation.jdbc-url=jdbc:postgresql://localhost:5432/invalidation \
+ *     -Dinvalidation.username=postgres -Dinvalidation.password=password
+ * </pre>
+ * To try it by hand instead, start the application twice on different ports with
+ * {@code --employee-tracker.invalidation.enabled=true}.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "invalidation.jdbc-url", matches = ".+")
+class ClusterInvalidationTests {
+
+    private static final Duration PROPAGATION = Duration.ofSeconds(5);
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    void startNodes() {
+        nodeA = startNode("node-a");
+        nodeB = startNode("node-b");
+    }
+
+    @AfterAll
+    void stopNodes() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void renameOnOneNode_isSeenByTheOther() {
+        String personalId = uniquePersonalId();
+        Long id = employees(nodeA).addEmployee(EmployeeRequest.builder().personalId(personalId).name("John Doe").build()).id();
+        assertEquals("John Doe", employees(nodeB).getEmployeeById(id).name());
+
+        employees(nodeA).updateEmployee(id, EmployeeUpdateRequest.builder().name("John Smith").build());
+
+        awaitEquals("John Smith", () -> employees(nodeB).getEmployeeById(id).name());
+    }
+
+    @Test
+    void newMemberOnOneNode_isSeenByTheOther() {
+        Long teamId = teams(nodeA).createTeam(TeamRequest.builder().teamName("Cluster " + UUID.randomUUID()).build()).id();
+        assertEquals(0, teams(nodeB).getTeamById(teamId).employees().size());
+
+        employees(nodeA).addEmployee(EmployeeRequest.builder()
+                .personalId(uniquePersonalId()).name("Jane Doe").teamId(teamId).build());
+
+        awaitEquals(1, () -> teams(nodeB).getTeamById(teamId).employees().size());
+    }
+
+    private static ConfigurableApplicationContext startNode(String name) {
+        return new SpringApplicationBuilder(EmployeeTrackerApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + System.getProperty("invalidation.jdbc-url"),
+                        "spring.datasource.username=" + System.getProperty("invalidation.username", "postgres"),
+                        "spring.datasource.password=" + System.getProperty("invalidation.password", "password"),
+                        "spring.jpa.properties.hibernate.cache.region_prefix=" + name,
+                        "employee-tracker.invalidation.enabled=true")
+                .run();
+    }
+
+    private static <T> void awaitEquals(T expected, Supplier<T> actual) {
+        long deadline = System.nanoTime() + PROPAGATION.toNanos();
+        while (!expected.equals(actual.get()) && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        assertEquals(expected, actual.get());
+    }
+
+    private static String uniquePersonalId() {
+        return String.valueOf(100_000 + (int) (Math.random() * 900_000));
+    }
+
+    private static EmployeeService employees(ConfigurableApplicationContext node) {
+        return node.getBean(EmployeeService.class);
+    }
+
+    private static TeamService teams(ConfigurableApplicationContext node) {
+        return node.getBean(TeamService.class);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.employeetracker.invalidation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InvalidationMessageTests {
+
+    @Test
+    void message_survivesEncoding() {
+        InvalidationMessage message = new InvalidationMessage("3f2a9c1e", 42, "acme",
+                Set.of(7L, 9L), Set.of(3L), Set.of(3L, 4L), false);
+
+        String payload = message.encode();
+
+        assertEquals("v1 3f2a9c1e 42 acme e=7,9 t=3 m=3,4", payload);
+        assertEquals(message, InvalidationMessage.decode(payload));
+    }
+
+    @Test
+    void emptyParts_areLeftOut() {
+        InvalidationMessage message = new InvalidationMessage("3f2a9c1e", 1, "default",
+                Set.of(), Set.of(), Set.of(5L), false);
+
+        assertEquals("v1 3f2a9c1e 1 default m=5", message.encode());
+        assertEquals(message, InvalidationMessage.decode(message.encode()));
+    }
+
+    @Test
+    void skippedSequence_evictsNothing() {
+        InvalidationMessage message = InvalidationMessage.skipped("3f2a9c1e", 8);
+
+        assertEquals("v1 3f2a9c1e 8 *", message.encode());
+        InvalidationMessage decoded = InvalidationMessage.decode(message.encode());
+        assertEquals(8, decoded.sequence());
+        assertFalse(decoded.flush());
+        assertTrue(decoded.employees().isEmpty() && decoded.teams().isEmpty() && decoded.teamMembers().isEmpty());
+    }
+
+    @Test
+    void oversizedMessage_becomesFlush() {
+        Set<Long> employees = LongStream.rangeClosed(1_000_000, 1_002_000).boxed().collect(Collectors.toSet());
+        InvalidationMessage message = new InvalidationMessage("3f2a9c1e", 5, "default",
+                employees, Set.of(), Set.of(), false);
+
+        InvalidationMessage decoded = InvalidationMessage.decode(message.encode());
+
+        assertTrue(decoded.flush());
+        assertEquals(5, decoded.sequence());
+    }
+
+    @Test
+    void foreignPayload_isRejected() {
+        assertThrows(IllegalArgumentException.class, () -> InvalidationMessage.decode("hello"));
+        assertThrows(IllegalArgumentException.class, () -> InvalidationMessage.decode("v1 node 1 default x=1"));
+    }
+}
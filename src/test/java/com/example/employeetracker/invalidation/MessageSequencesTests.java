@@ -0,0 +1,58 @@
+package com.example.employeetracker.invalidation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MessageSequencesTests {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final MessageSequences sequences = new MessageSequences(5 * SECOND, 100);
+
+    @Test
+    void outOfOrderDelivery_isNoLoss() {
+        sequences.record("a", 1, 0);
+        sequences.record("a", 3, SECOND);
+        sequences.record("a", 2, 2 * SECOND);
+
+        assertFalse(sequences.hasLostMessages(10 * SECOND));
+    }
+
+    @Test
+    void gapOpenPastTimeout_isLoss() {
+        sequences.record("a", 1, 0);
+        sequences.record("a", 3, SECOND);
+
+        assertFalse(sequences.hasLostMessages(5 * SECOND));
+        assertTrue(sequences.hasLostMessages(7 * SECOND));
+    }
+
+    @Test
+    void reset_forgetsGaps() {
+        sequences.record("a", 1, 0);
+        sequences.record("a", 3, SECOND);
+        sequences.reset();
+        sequences.record("a", 4, 2 * SECOND);
+
+        assertFalse(sequences.hasLostMessages(10 * SECOND));
+    }
+
+    @Test
+    void firstMessageOfSender_isNoGap() {
+        sequences.record("a", 1, 0);
+        sequences.record("b", 57, 0);
+
+        assertFalse(sequences.hasLostMessages(10 * SECOND));
+    }
+
+    @Test
+    void tooManyMissing_isReportedRightAway() {
+        sequences.record("a", 1, 0);
+
+        assertFalse(sequences.record("a", 500, 0));
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.employeetracker.mapper;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelMapperTests {
+
+    @Test
+    void map_keepsSourceOrderAboveTheThreshold() {
+        List<Integer> source = IntStream.range(0, ParallelMapper.PARALLEL_THRESHOLD * 4).boxed().toList();
+
+        List<String> mapped = ParallelMapper.map(source, String::valueOf);
+
+        assertEquals(source.stream().map(String::valueOf).toList(), mapped);
+    }
+
+    @Test
+    void map_staysOnTheCallingThreadBelowTheThreshold() {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        List<Integer> source = IntStream.range(0, ParallelMapper.PARALLEL_THRESHOLD - 1).boxed().toList();
+
+        ParallelMapper.map(source, i -> threads.add(Thread.currentThread()));
+
+        assertEquals(Set.of(Thread.currentThread()), threads);
+    }
+
+    @Test
+    void map_returnsAnUnmodifiableList() {
+        List<Integer> mapped = ParallelMapper.map(List.of(1, 2, 3), i -> i * 2);
+
+        assertEquals(List.of(2, 4, 6), mapped);
+        assertThrows(UnsupportedOperationException.class, () -> mapped.add(8));
+        assertTrue(ParallelMapper.map(null, i -> i).isEmpty());
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.employeetracker.profiling;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OperationProfileTests {
+
+    @Test
+    void withoutProfile_nothingIsCounted() {
+        long started = OperationProfile.mappingStarted();
+        OperationProfile.queryExecuted();
+        OperationProfile.mappingFinished(started);
+
+        OperationProfile profile = OperationProfile.begin();
+        profile.end();
+        assertEquals(0, profile.queries());
+        assertEquals(0, profile.mappingNanos());
+    }
+
+    @Test
+    void nestedMapping_isTimedOnce() throws InterruptedException {
+        OperationProfile profile = OperationProfile.begin();
+        long outer = OperationProfile.mappingStarted();
+        long inner = OperationProfile.mappingStarted();
+        Thread.sleep(5);
+        OperationProfile.mappingFinished(inner);
+        long afterInner = profile.mappingNanos();
+        OperationProfile.mappingFinished(outer);
+        profile.end();
+
+        assertEquals(0, afterInner);
+        assertTrue(profile.mappingNanos() >= 5_000_000);
+    }
+
+    @Test
+    void nestedOperation_addsToOuter() {
+        OperationProfile outer = OperationProfile.begin();
+        OperationProfile.queryExecuted();
+        OperationProfile inner = OperationProfile.begin();
+        OperationProfile.queryExecuted();
+        OperationProfile.queryExecuted();
+        inner.end();
+        OperationProfile.queryExecuted();
+        outer.end();
+
+        assertEquals(2, inner.queries());
+        assertEquals(4, outer.queries());
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.employeetracker.queryplan;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records every SQL statement Hibernate prepares while capturing is switched on.
+ * Registered through {@code hibernate.session_factory.statement_inspector}.
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final List<String> CAPTURED = new ArrayList<>();
+    private static volatile boolean capturing;
+
+    static synchronized void start() {
+        CAPTURED.clear();
+        capturing = true;
+    }
+
+    static synchronized List<String> stop() {
+        capturing = false;
+        return List.copyOf(CAPTURED);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (capturing) {
+            synchronized (CapturingStatementInspector.class) {
+                CAPTURED.add(sql);
+            }
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.employeetracker.queryplan;
+
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * What a scenario's queries may cost, read from {@code queryplan/budgets.properties}:
+ * <pre>
+ * &lt;scenario&gt;.max-cost        total planner cost per statement
+ * &lt;scenario&gt;.max-rows        estimated rows returned per statement
+ * &lt;scenario&gt;.allow-seq-scan  tables that may be scanned sequentially, comma separated
+ * </pre>
+ */
+record PlanBudget(double maxCost, double maxRows, Set<String> allowedSeqScans) {
+
+    static PlanBudget forScenario(Properties budgets, String scenario) {
+        double maxCost = Double.parseDouble(budgets.getProperty(scenario + ".max-cost",
+                budgets.getProperty("default.max-cost")));
+        double maxRows = Double.parseDouble(budgets.getProperty(scenario + ".max-rows",
+                budgets.getProperty("default.max-rows")));
+        Set<String> allowed = Arrays.stream(budgets.getProperty(scenario + ".allow-seq-scan", "").split(","))
+                .map(String::trim)
+                .filter(table -> !table.isEmpty())
+                .collect(Collectors.toSet());
+        return new PlanBudget(maxCost, maxRows, allowed);
+    }
+}
@@ -0,0 +1,266 @@
+package com.example.employeetracker.queryplan;
+
+import com.example.employeetracker.domain.Team;
+import com.example.employeetracker.repository.EmployeeRepository;
+import com.example.employeetracker.repository.IdempotencyRecordRepository;
+import com.example.employeetracker.repository.MembershipHistoryRepository;
+import com.example.employeetracker.repository.TeamRepository;
+import com.example.employeetracker.request.TeamFields;
+import com.example.employeetracker.specifications.EmployeeSpecification;
+import com.example.employeetracker.specifications.TeamSpecification;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs every query issued by the repositories and specifications against a seeded PostgreSQL
+ * database (1M employees, 10k teams, three years of membership history), captures the SQL Hibernate generates and fails when its
+ * {@code EXPLAIN} plan contains a sequential scan on a large table or exceeds the cost/row budget
+ * in {@code queryplan/budgets.properties}.
+ * <p>
+ * Needs PostgreSQL 16+ ({@code EXPLAIN (GENERIC_PLAN)}), so it only runs when pointed at one:
+ * <pre>
+ * mvn test -Dtest=QueryPlanRegressionTests \
+ *     -Dqueryplan.jdbc-url=jdbc:postgresql://localhost:5432/queryplan \
+ *     -Dqueryplan.username=postgres -Dqueryplan.password=password
+ * </pre>
+ * The database is migrated by Flyway and seeded on the first run; later runs reuse the data. The test only
+ * truncates a database that is empty or that it seeded before, {@code -Dqueryplan.allow-reset=true} overrides that.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "queryplan.jdbc-url", matches = ".+")
+class QueryPlanRegressionTests {
+
+    private static final int TEAMS = 10_000;
+    private static final int EMPLOYEES = 1_000_000;
+    // created when the test seeds a database, so a later run may reset it
+    private static final String MARKER_TABLE = "queryplan_test_database";
+    private static final List<Long> FIFTY_TEAM_IDS = LongStream.rangeClosed(1, 50).boxed().toList();
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private MembershipHistoryRepository membershipHistoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DynamicPropertySource
+    static void queryPlanDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("queryplan.jdbc-url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("queryplan.username", "postgres"));
+        registry.add("spring.datasource.password", () -> System.getProperty("queryplan.password", "password"));
+        registry.add("spring.jpa.properties.hibernate.session_factory.statement_inspector",
+                CapturingStatementInspector.class::getName);
+        registry.add("employee-tracker.rate-limit.enabled", () -> "false");
+    }
+
+    @BeforeAll
+    void seed() {
+        Long employees = jdbcTemplate.queryForObject("select count(*) from employees", Long.class);
+        if (employees != null && employees >= EMPLOYEES) {
+            seedHistory();
+            return;
+        }
+        Long teams = jdbcTemplate.queryForObject("select count(*) from teams", Long.class);
+        boolean empty = employees != null && employees == 0 && teams != null && teams == 0;
+        if (!empty && !isMarkedAsTestDatabase() && !Boolean.getBoolean("queryplan.allow-reset")) {
+            throw new IllegalStateException("Refusing to truncate a database with " + employees + " employees that "
+                    + "was not seeded by this test; point queryplan.jdbc-url at an empty database, "
+                    + "or pass -Dqueryplan.allow-reset=true to wipe this one");
+        }
+        jdbcTemplate.execute("create table if not exists " + MARKER_TABLE + " (seeded_at timestamptz not null)");
+        jdbcTemplate.execute("insert into " + MARKER_TABLE + " values (now())");
+        jdbcTemplate.execute("truncate team_membership_history, employees, teams restart identity cascade");
+        jdbcTemplate.update("insert into teams (tenant_id, name, version) " +
+                "select 'default', 'Team ' || lpad(i::text, 5, '0'), 0 from generate_series(1, ?) i", TEAMS);
+        jdbcTemplate.update("insert into employees (tenant_id, personal_id, name, team_id, version) " +
+                "select 'default', lpad(i::text, 6, '0'), 'Employee ' || i, 1 + (i % ?), 0 " +
+                "from generate_series(0, ? - 1) i", TEAMS, EMPLOYEES);
+        jdbcTemplate.update("update teams t set team_lead_id = " +
+                "(select min(e.id) from employees e where e.team_id = t.id)");
+        jdbcTemplate.execute("analyze employees");
+        jdbcTemplate.execute("analyze teams");
+        seedHistory();
+    }
+
+    /**
+     * Three years of history: every employee was on two other teams for a year each before joining the current one
+     */
+    private void seedHistory() {
+        Long intervals = jdbcTemplate.queryForObject("select count(*) from team_membership_history", Long.class);
+        if (intervals != null && intervals > 0) {
+            return;
+        }
+        jdbcTemplate.update("insert into team_membership_history " +
+                "(tenant_id, employee_id, team_id, role, valid_from, valid_to) " +
+                "select 'default', e.id, 1 + ((e.team_id + y) % ?), 'MEMBER', " +
+                "timestamptz '2024-01-01 00:00:00+00' + (y * 365 + e.id % 365) * interval '1 day', " +
+                "timestamptz '2024-01-01 00:00:00+00' + ((y + 1) * 365 + e.id % 365) * interval '1 day' " +
+                "from employees e cross join generate_series(0, 1) y", TEAMS);
+        jdbcTemplate.update("insert into team_membership_history (tenant_id, employee_id, team_id, role, valid_from) " +
+                "select 'default', e.id, e.team_id, 'MEMBER', " +
+                "timestamptz '2024-01-01 00:00:00+00' + (730 + e.id % 365) * interval '1 day' from employees e");
+        jdbcTemplate.execute("analyze team_membership_history");
+    }
+
+    private boolean isMarkedAsTestDatabase() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "select to_regclass(?) is not null", Boolean.class, MARKER_TABLE));
+    }
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueriesStayWithinPlanBudget() throws IOException {
+        Properties budgets = loadBudgets();
+        return scenarios().entrySet().stream()
+                .map(scenario -> DynamicTest.dynamicTest(scenario.getKey(),
+                        () -> verify(scenario.getKey(), scenario.getValue(), PlanBudget.forScenario(budgets, scenario.getKey()))));
+    }
+
+    private Map<String, Runnable> scenarios() {
+        Map<String, Runnable> scenarios = new LinkedHashMap<>();
+        scenarios.put("employee.findById", () -> employeeRepository.findById(500_000L));
+        scenarios.put("employee.findAllById", () -> employeeRepository.findAllById(List.of(1L, 2L, 3L, 999_999L)));
+        // same statement as employeeRepository.findAll(), without materialising a million entities
+        scenarios.put("employee.streamAll", () -> transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<?> employees = employeeRepository.streamAll()) {
+                employees.findFirst();
+            }
+        }));
+        // one GraphQL members batch: the first members of 50 teams
+        scenarios.put("employee.findResponsesByTeamIds",
+                () -> employeeRepository.findResponsesByTeamIds(FIFTY_TEAM_IDS, 50));
+        scenarios.put("employee.searchByPersonalId",
+                () -> employeeRepository.findAll(EmployeeSpecification.filterEmployee("123456", null)));
+        scenarios.put("employee.searchByName",
+                () -> employeeRepository.findAll(EmployeeSpecification.filterEmployee(null, "Employee 4242")));
+        scenarios.put("team.findById", () -> teamRepository.findById(42L));
+        scenarios.put("team.findAll", () -> teamRepository.findAll());
+        scenarios.put("team.loadEmployees", () -> transactionTemplate.executeWithoutResult(status ->
+                teamRepository.findById(42L).map(Team::getEmployees).ifPresent(List::size)));
+        // the members of one chunk of streamed teams
+        scenarios.put("team.findWithEmployeesByIds", () -> teamRepository.findWithEmployeesByIds(FIFTY_TEAM_IDS));
+        scenarios.put("team.streamAllWithLead", () -> transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<?> teams = teamRepository.streamAllWithLead()) {
+                teams.findFirst();
+            }
+        }));
+        // the roster import resolves team names one by one
+        scenarios.put("team.findIdByName", () -> teamRepository.findIdByName("Team 04242"));
+        scenarios.put("team.searchByName", () -> teamRepository.findAll(TeamSpecification.filterTeams("team 0042", null)));
+        scenarios.put("team.searchByLead", () -> teamRepository.findAll(TeamSpecification.filterTeams(null, 4242L)));
+        scenarios.put("team.searchWithFetch", () -> teamRepository.findAll(TeamSpecification.filterTeams("team 0042", null)
+                .and(TeamSpecification.fetchSelected(TeamFields.ALL))));
+        scenarios.put("idempotency.purge", () -> idempotencyRecordRepository.deleteExpired(Instant.now()));
+        scenarios.put("history.teamRosterNow", () -> membershipHistoryRepository.findOpenByTeam(42L));
+        scenarios.put("history.teamRosterAsOf",
+                () -> membershipHistoryRepository.findByTeamAsOf(42L, Instant.parse("2025-03-01T00:00:00Z")));
+        scenarios.put("history.employeeTimeline", () -> membershipHistoryRepository.findByEmployeeBetween(
+                500_000L, Instant.parse("2024-01-01T00:00:00Z"), Instant.parse("2026-01-01T00:00:00Z")));
+        return scenarios;
+    }
+
+    private void verify(String scenario, Runnable queries, PlanBudget budget) throws IOException {
+        CapturingStatementInspector.start();
+        try {
+            queries.run();
+        } finally {
+            List<String> statements = CapturingStatementInspector.stop();
+            assertFalse(statements.isEmpty(), scenario + " issued no SQL");
+            for (String sql : statements) {
+                verifyPlan(scenario, sql, budget);
+            }
+        }
+    }
+
+    private void verifyPlan(String scenario, String sql, PlanBudget budget) throws IOException {
+        String plan = jdbcTemplate.queryForObject(
+                "explain (format json, generic_plan) " + numberParameters(sql), String.class);
+        JsonNode root = objectMapper.readTree(plan).get(0).get("Plan");
+
+        List<String> seqScans = new ArrayList<>();
+        collectSeqScans(root, seqScans);
+        seqScans.removeAll(budget.allowedSeqScans());
+
+        double cost = root.get("Total Cost").asDouble();
+        double rows = root.get("Plan Rows").asDouble();
+        String context = String.format("%s%n%s%n%s", scenario, sql, plan);
+        assertTrue(seqScans.isEmpty(), "Sequential scan on " + seqScans + " in " + context);
+        assertTrue(cost <= budget.maxCost(), "Cost " + cost + " over budget " + budget.maxCost() + " in " + context);
+        assertTrue(rows <= budget.maxRows(), "Rows " + rows + " over budget " + budget.maxRows() + " in " + context);
+    }
+
+    private static void collectSeqScans(JsonNode node, List<String> seqScans) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            seqScans.add(node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSeqScans(child, seqScans);
+        }
+    }
+
+    /**
+     * JDBC placeholders become {@code $1, $2, ...} so PostgreSQL can plan the statement generically
+     */
+    private static String numberParameters(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        boolean inLiteral = false;
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            }
+            if (c == '?' && !inLiteral) {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    private static Properties loadBudgets() throws IOException {
+        Properties budgets = new Properties();
+        try (InputStream in = QueryPlanRegressionTests.class.getResourceAsStream("/queryplan/budgets.properties")) {
+            budgets.load(in);
+        }
+        return budgets;
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.employeetracker.ratelimit;
+
+import com.example.employeetracker.client.ApiClientProperties;
+import com.example.employeetracker.client.ApiClients;
+import com.example.employeetracker.exception.RateLimitExceededException;
+import com.example.employeetracker.tenant.TenantContext;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.function.HandlerFunction;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class RateLimitInterceptorTests {
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final RateLimitProperties properties = new RateLimitProperties();
+    private RateLimitInterceptor interceptor;
+    private HandlerMethod scan;
+    private HandlerMethod read;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        properties.setMaxConcurrentScansPerTenant(2);
+        RateLimitProperties.Budget readBudget = new RateLimitProperties.Budget();
+        readBudget.setCapacity(2);
+        readBudget.setRefillPerSecond(0.001);
+        properties.getBudgets().put(EndpointClass.READ, readBudget);
+        ApiClientProperties.Client portal = new ApiClientProperties.Client();
+        portal.setKey("portal-key");
+        ApiClientProperties clients = new ApiClientProperties();
+        clients.getClients().put("portal", portal);
+        interceptor = new RateLimitInterceptor(properties, mock(ConnectionPoolPressure.class), new ApiClients(clients));
+        scan = new HandlerMethod(this, RateLimitInterceptorTests.class.getDeclaredMethod("scanEndpoint"));
+        read = new HandlerMethod(this, RateLimitInterceptorTests.class.getDeclaredMethod("readEndpoint"));
+    }
+
+    @Test
+    void preHandle_limitsConcurrentScansPerTenantOnly() {
+        MockHttpServletRequest first = request();
+        MockHttpServletRequest second = request();
+        TenantContext.runAs("large", () -> {
+            interceptor.preHandle(first, response, scan);
+            interceptor.preHandle(second, response, scan);
+            assertThrows(RateLimitExceededException.class, () -> interceptor.preHandle(request(), response, scan));
+        });
+
+        TenantContext.runAs("small", () -> assertDoesNotThrow(() -> interceptor.preHandle(request(), response, scan)));
+
+        interceptor.afterCompletion(first, response, scan, null);
+        TenantContext.runAs("large", () -> assertDoesNotThrow(() -> interceptor.preHandle(request(), response, scan)));
+    }
+
+    @Test
+    void preHandle_doesNotChargeTheAsyncDispatchAgain() {
+        TenantContext.runAs("large", () -> {
+            MockHttpServletRequest streamed = request();
+            interceptor.preHandle(streamed, response, scan);
+            streamed.setDispatcherType(DispatcherType.ASYNC);
+            interceptor.preHandle(streamed, response, scan);
+            interceptor.preHandle(request(), response, scan);
+
+            interceptor.afterCompletion(streamed, response, scan, null);
+            interceptor.afterCompletion(streamed, response, scan, null);
+            assertDoesNotThrow(() -> interceptor.preHandle(request(), response, scan));
+            assertThrows(RateLimitExceededException.class, () -> interceptor.preHandle(request(), response, scan));
+        });
+    }
+
+    @Test
+    void preHandle_countsGraphQlQueriesAsScans() {
+        HandlerFunction<ServerResponse> graphQl = request -> ServerResponse.ok().build();
+        TenantContext.runAs("large", () -> {
+            interceptor.preHandle(request(), response, graphQl);
+            interceptor.preHandle(request(), response, graphQl);
+
+            assertThrows(RateLimitExceededException.class, () -> interceptor.preHandle(request(), response, scan));
+        });
+    }
+
+    @Test
+    void preHandle_unknownApiKeysShareTheAddressBudget() {
+        interceptor.preHandle(withApiKey(request(), "made-up-1"), response, read);
+        interceptor.preHandle(withApiKey(request(), "made-up-2"), response, read);
+
+        assertThrows(RateLimitExceededException.class,
+                () -> interceptor.preHandle(withApiKey(request(), "made-up-3"), response, read));
+    }
+
+    @Test
+    void preHandle_knownApiKeyHasItsOwnBudgetAcrossAddresses() {
+        interceptor.preHandle(request(), response, read);
+        interceptor.preHandle(request(), response, read);
+
+        MockHttpServletRequest elsewhere = withApiKey(request(), "portal-key");
+        elsewhere.setRemoteAddr("10.0.0.7");
+        interceptor.preHandle(elsewhere, response, read);
+        interceptor.preHandle(withApiKey(request(), "portal-key"), response, read);
+        assertThrows(RateLimitExceededException.class,
+                () -> interceptor.preHandle(withApiKey(request(), "portal-key"), response, read));
+    }
+
+    @Test
+    void preHandle_keepsTheNumberOfBucketsBounded() {
+        properties.setMaxTrackedClients(100);
+        for (int client = 0; client < 1_000; client++) {
+            MockHttpServletRequest request = request();
+            request.setRemoteAddr("10.1." + client / 256 + "." + client % 256);
+            // one token used, so no bucket is full and the idle ones alone can't be dropped
+            interceptor.preHandle(request, response, read);
+        }
+
+        assertTrue(trackedBuckets() <= 100);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int trackedBuckets() {
+        return ((Map<String, TokenBucket>) ReflectionTestUtils.getField(interceptor, "buckets")).size();
+    }
+
+    private static MockHttpServletRequest withApiKey(MockHttpServletRequest request, String key) {
+        request.addHeader("X-Api-Key", key);
+        return request;
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employee");
+        request.setDispatcherType(DispatcherType.REQUEST);
+        return request;
+    }
+
+    @RateLimited(EndpointClass.SCAN)
+    void scanEndpoint() {
+    }
+
+    void readEndpoint() {
+    }
+}
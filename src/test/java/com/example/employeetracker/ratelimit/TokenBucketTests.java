@@ -0,0 +1,53 @@
+package com.example.employeetracker.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTests {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void tryConsume_rejectsOnceCapacityIsUsedUp() {
+        TokenBucket bucket = new TokenBucket(2, 1, clock::get);
+
+        assertTrue(bucket.tryConsume());
+        assertTrue(bucket.tryConsume());
+        assertFalse(bucket.tryConsume());
+    }
+
+    @Test
+    void tryConsume_refillsOverTime() {
+        TokenBucket bucket = new TokenBucket(1, 2, clock::get);
+        assertTrue(bucket.tryConsume());
+        assertFalse(bucket.tryConsume());
+
+        clock.addAndGet(500_000_000L);
+
+        assertTrue(bucket.tryConsume());
+    }
+
+    @Test
+    void secondsUntilNextToken_roundsUpToWholeSeconds() {
+        TokenBucket bucket = new TokenBucket(1, 0.25, clock::get);
+        bucket.tryConsume();
+
+        assertEquals(4, bucket.secondsUntilNextToken());
+    }
+
+    @Test
+    void isFull_onlyAfterCompleteRefill() {
+        TokenBucket bucket = new TokenBucket(4, 1, clock::get);
+        bucket.tryConsume();
+        assertFalse(bucket.isFull());
+
+        clock.addAndGet(1_000_000_000L);
+
+        assertTrue(bucket.isFull());
+    }
+}
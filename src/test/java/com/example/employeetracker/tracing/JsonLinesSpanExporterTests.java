@@ -0,0 +1,59 @@
+package com.example.employeetracker.tracing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.sdk.testing.trace.TestSpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonLinesSpanExporterTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void spans_areAppendedOnePerLine(@TempDir Path directory) throws Exception {
+        TracingProperties properties = new TracingProperties();
+        properties.setFile(directory.resolve("traces/spans.jsonl"));
+        JsonLinesSpanExporter exporter = new JsonLinesSpanExporter(properties, objectMapper);
+
+        exporter.export(List.of(span("query", 3_000_000), span("result-set", 1_000_000)));
+        exporter.shutdown();
+
+        List<String> lines = Files.readAllLines(properties.getFile());
+        assertEquals(2, lines.size());
+        JsonNode query = objectMapper.readTree(lines.get(0));
+        assertEquals("query", query.get("name").asText());
+        assertEquals(3_000, query.get("durationMicros").asLong());
+        assertEquals(12, query.get("attributes").get("jdbc.row-affected").asLong());
+        assertTrue(query.get("parentSpanId").isNull());
+    }
+
+    private static TestSpanData span(String name, long durationNanos) {
+        return TestSpanData.builder()
+                .setSpanContext(SpanContext.create("0af7651916cd43dd8448eb211c80319c", "b7ad6b7169203331",
+                        TraceFlags.getSampled(), TraceState.getDefault()))
+                .setName(name)
+                .setKind(SpanKind.CLIENT)
+                .setStartEpochNanos(1_000_000_000L)
+                .setEndEpochNanos(1_000_000_000L + durationNanos)
+                .setAttributes(Attributes.builder().put("jdbc.row-affected", 12L).build())
+                .setStatus(StatusData.unset())
+                .setHasEnded(true)
+                .setTotalRecordedEvents(0)
+                .setTotalRecordedLinks(0)
+                .build();
+    }
+}